@@ -17,6 +17,7 @@ import me.boboballoon.innovativeitems.functions.condition.builtin.IsBurningCondi
 import me.boboballoon.innovativeitems.functions.condition.builtin.IsClearWeatherCondition;
 import me.boboballoon.innovativeitems.functions.condition.builtin.IsCoordinateCondition;
 import me.boboballoon.innovativeitems.functions.condition.builtin.IsEntityTypeCondition;
+import me.boboballoon.innovativeitems.functions.condition.builtin.IsEquipmentSlotCondition;
 import me.boboballoon.innovativeitems.functions.condition.builtin.IsExperienceAtCondition;
 import me.boboballoon.innovativeitems.functions.condition.builtin.IsFacingCondition;
 import me.boboballoon.innovativeitems.functions.condition.builtin.IsFallingCondition;
@@ -33,6 +34,7 @@ import me.boboballoon.innovativeitems.functions.condition.builtin.IsSneakingCond
 import me.boboballoon.innovativeitems.functions.condition.builtin.IsTimeCondition;
 import me.boboballoon.innovativeitems.functions.condition.builtin.IsUsingCustomItemCondition;
 import me.boboballoon.innovativeitems.functions.condition.builtin.IsUsingItemCondition;
+import me.boboballoon.innovativeitems.functions.condition.builtin.IsUsingItemSetCondition;
 import me.boboballoon.innovativeitems.functions.condition.builtin.dependent.IsInRegionCondition;
 import me.boboballoon.innovativeitems.functions.keyword.builtin.AbilityKeyword;
 import me.boboballoon.innovativeitems.functions.keyword.builtin.ActionbarKeyword;
@@ -84,10 +86,17 @@ import me.boboballoon.innovativeitems.functions.keyword.builtin.TeleportToKeywor
 import me.boboballoon.innovativeitems.functions.keyword.builtin.TimeKeyword;
 import me.boboballoon.innovativeitems.functions.keyword.builtin.TitleMessageKeyword;
 import me.boboballoon.innovativeitems.functions.keyword.builtin.VelocityKeyword;
+import me.boboballoon.innovativeitems.items.EquipmentIndex;
+import me.boboballoon.innovativeitems.items.MobEquipmentIndex;
+import me.boboballoon.innovativeitems.items.PassiveEffectEngine;
+import me.boboballoon.innovativeitems.items.set.ItemSetTracker;
 import me.boboballoon.innovativeitems.items.GarbageCollector;
 import me.boboballoon.innovativeitems.items.InnovativeCache;
 import me.boboballoon.innovativeitems.items.ItemDefender;
+import me.boboballoon.innovativeitems.items.RecipeBatcher;
 import me.boboballoon.innovativeitems.items.ability.Ability;
+import me.boboballoon.innovativeitems.items.ability.ExecutionWatchdog;
+import me.boboballoon.innovativeitems.items.ability.trigger.TriggerRateLimiter;
 import me.boboballoon.innovativeitems.items.ability.trigger.builtin.BlockBreakTrigger;
 import me.boboballoon.innovativeitems.items.ability.trigger.builtin.ConsumeItemTrigger;
 import me.boboballoon.innovativeitems.items.ability.trigger.builtin.CrouchTrigger;
@@ -101,15 +110,30 @@ import me.boboballoon.innovativeitems.items.ability.trigger.builtin.NoneTrigger;
 import me.boboballoon.innovativeitems.items.ability.trigger.builtin.RightClickBlockTrigger;
 import me.boboballoon.innovativeitems.items.ability.trigger.builtin.RightClickEntityTrigger;
 import me.boboballoon.innovativeitems.items.ability.trigger.builtin.RightClickTrigger;
+import me.boboballoon.innovativeitems.items.ability.trigger.builtin.aura.AuraManager;
+import me.boboballoon.innovativeitems.items.ability.trigger.builtin.aura.AuraTrigger;
+import me.boboballoon.innovativeitems.items.ability.trigger.builtin.equipment.EquipTrigger;
+import me.boboballoon.innovativeitems.items.ability.trigger.builtin.equipment.HoldEndTrigger;
+import me.boboballoon.innovativeitems.items.ability.trigger.builtin.equipment.HoldStartTrigger;
+import me.boboballoon.innovativeitems.items.ability.trigger.builtin.equipment.UnequipTrigger;
+import me.boboballoon.innovativeitems.items.ability.trigger.builtin.mob.MobDamageDealtTrigger;
+import me.boboballoon.innovativeitems.items.ability.trigger.builtin.mob.MobDamageTakenTrigger;
+import me.boboballoon.innovativeitems.items.ability.trigger.builtin.movement.EnterMaterialTrigger;
+import me.boboballoon.innovativeitems.items.ability.trigger.builtin.movement.MoveBlockTrigger;
+import me.boboballoon.innovativeitems.items.ability.trigger.builtin.movement.MoveChunkTrigger;
 import me.boboballoon.innovativeitems.items.ability.trigger.builtin.projectile.ArrowFireListener;
 import me.boboballoon.innovativeitems.items.ability.trigger.builtin.projectile.ArrowHitBlockTrigger;
 import me.boboballoon.innovativeitems.items.ability.trigger.builtin.projectile.ArrowHitEntityTrigger;
+import me.boboballoon.innovativeitems.items.ability.trigger.builtin.set.SetActivatedTrigger;
+import me.boboballoon.innovativeitems.items.ability.trigger.builtin.set.SetDeactivatedTrigger;
 import me.boboballoon.innovativeitems.items.ability.trigger.builtin.timer.AbilityTimerManager;
 import me.boboballoon.innovativeitems.items.ability.trigger.builtin.timer.TimerTrigger;
 import me.boboballoon.innovativeitems.items.item.CustomItem;
 import me.boboballoon.innovativeitems.listeners.CraftingListener;
 import me.boboballoon.innovativeitems.listeners.ItemFieldListeners;
 import me.boboballoon.innovativeitems.listeners.UIViewListeners;
+import me.boboballoon.innovativeitems.profiler.AbilityProfiler;
+import me.boboballoon.innovativeitems.profiler.ListenerTimings;
 import me.boboballoon.innovativeitems.util.LogUtil;
 import me.boboballoon.innovativeitems.util.ResponseUtil;
 import me.boboballoon.innovativeitems.util.UpdateChecker;
@@ -135,8 +159,17 @@ public final class InnovativeItems extends JavaPlugin {
     private FunctionManager functionManager;
     private InnovativeCache cache;
     private AbilityTimerManager timerManager;
+    private AuraManager auraManager;
     private GarbageCollector garbageCollector;
     private ItemDefender itemDefender;
+    private EquipmentIndex equipmentIndex;
+    private MobEquipmentIndex mobEquipmentIndex;
+    private PassiveEffectEngine passiveEffectEngine;
+    private ItemSetTracker itemSetTracker;
+    private TriggerRateLimiter triggerRateLimiter;
+    private ExecutionWatchdog executionWatchdog;
+    private AbilityProfiler abilityProfiler;
+    private ListenerTimings listenerTimings;
 
     /*
     TODO LIST:
@@ -168,6 +201,9 @@ public final class InnovativeItems extends JavaPlugin {
         //instance init
         InnovativeItems.instance = this;
 
+        //listener timings init (every listener and trigger executor is wrapped by it)
+        this.listenerTimings = new ListenerTimings();
+
         //load up and register all keywords and conditions
         this.functionManager = new FunctionManager();
 
@@ -189,7 +225,7 @@ public final class InnovativeItems extends JavaPlugin {
                 new IsPermissionPresentCondition(), new IsGamemodeCondition(), new IsPlayerCondition(), new IsSneakingCondition(),
                 new IsBlockingCondition(), new IsGlidingCondition(), new IsEntityTypeCondition(), new IsBlockCondition(),
                 new IsBlockAtCondition(), new IsFacingCondition(), new IsFallingCondition(), new IsInWorldCondition(),
-                new IsUsingItemCondition(), new IsUsingCustomItemCondition(), new IsExperienceAtCondition(), new IsHeathPercentAtCondition(),
+                new IsUsingItemCondition(), new IsUsingCustomItemCondition(), new IsUsingItemSetCondition(), new IsEquipmentSlotCondition(), new IsExperienceAtCondition(), new IsHeathPercentAtCondition(),
                 new HasPotionEffectCondition(), new IsBurningCondition(), new IsCoordinateCondition(), new HasScoreboardTagCondition(),
                 new ChanceCondition(), new HasLineOfSightCondition(), new IsLookingCondition());
 
@@ -202,7 +238,10 @@ public final class InnovativeItems extends JavaPlugin {
         this.functionManager.registerTriggers(new BlockBreakTrigger(), new ConsumeItemTrigger(), new CrouchTrigger(), new DamageDealtTrigger(),
                 new DamageTakenTrigger(), new LeftClickBlockTrigger(), new LeftClickTrigger(), new NoneTrigger(),
                 new RightClickBlockTrigger(), new RightClickTrigger(), new TimerTrigger(), new RightClickEntityTrigger(),
-                new ArrowHitEntityTrigger(), new ArrowHitBlockTrigger(), new DoubleLeftClickTrigger(), new DoubleRightClickTrigger());
+                new ArrowHitEntityTrigger(), new ArrowHitBlockTrigger(), new DoubleLeftClickTrigger(), new DoubleRightClickTrigger(),
+                new SetActivatedTrigger(), new SetDeactivatedTrigger(), new EquipTrigger(), new UnequipTrigger(), new HoldStartTrigger(), new HoldEndTrigger(),
+                new MoveBlockTrigger(), new MoveChunkTrigger(), new EnterMaterialTrigger(), new AuraTrigger(),
+                new MobDamageDealtTrigger(), new MobDamageTakenTrigger());
     }
 
     /**
@@ -241,8 +280,27 @@ public final class InnovativeItems extends JavaPlugin {
         //load up and parse configs
         this.cache = new InnovativeCache();
         this.timerManager = new AbilityTimerManager();
+        this.auraManager = new AuraManager();
+
+        //init equipment index (before any timer can run)
+        this.equipmentIndex = new EquipmentIndex();
+        this.mobEquipmentIndex = new MobEquipmentIndex();
+
+        //init passive effect engine (before the equipment index first scans)
+        this.passiveEffectEngine = new PassiveEffectEngine();
+
+        //init item set tracker (before the equipment index first scans)
+        this.itemSetTracker = new ItemSetTracker();
+
+        //init ability profiler
+        this.abilityProfiler = new AbilityProfiler();
+
+        //init execution watchdog (before any timer can execute an ability)
+        this.executionWatchdog = new ExecutionWatchdog(this.configManager.getExecutionBudget());
+        this.executionWatchdog.start();
 
         this.configManager.init();
+        this.itemSetTracker.reload();
 
         //init garbage collector
         this.garbageCollector = new GarbageCollector(this.configManager.shouldUpdateItems(), this.configManager.shouldDeleteItems());
@@ -250,12 +308,20 @@ public final class InnovativeItems extends JavaPlugin {
         //init item defender
         this.itemDefender = new ItemDefender(this.configManager.isItemDefenderEnabled());
 
+        //init trigger rate limiter
+        this.triggerRateLimiter = new TriggerRateLimiter(this.configManager.isRateLimitEnabled(), this.configManager.getRateLimit());
+
         //register listeners
         LogUtil.log(LogUtil.Level.INFO, "Registering native event listeners...");
 
-        this.registerListeners(this.garbageCollector, new ItemFieldListeners(), this.itemDefender, new ArmorListener(), new DispenserArmorListener(), new ArrowFireListener(), new CraftingListener(), new UIViewListeners());
+        this.registerListeners(this.garbageCollector, new ItemFieldListeners(), this.itemDefender, this.triggerRateLimiter, this.executionWatchdog, this.equipmentIndex, this.mobEquipmentIndex, this.passiveEffectEngine, this.itemSetTracker, new ArmorListener(), new DispenserArmorListener(), new ArrowFireListener(), new CraftingListener(), new UIViewListeners());
         this.functionManager.registerCachedTriggers();
         ResponseUtil.enable();
+        this.listenerTimings.start();
+        this.equipmentIndex.start();
+        this.mobEquipmentIndex.start();
+        this.passiveEffectEngine.start();
+        this.auraManager.start();
 
         LogUtil.log(LogUtil.Level.INFO, "Event listener registration complete!");
     }
@@ -265,6 +331,33 @@ public final class InnovativeItems extends JavaPlugin {
      */
     @Override
     public void onDisable() {
+        if (this.configManager != null) {
+            this.configManager.shutdown();
+        }
+
+        if (this.timerManager != null) {
+            this.timerManager.shutdown();
+        }
+
+        if (this.auraManager != null) {
+            this.auraManager.shutdown();
+        }
+
+        if (this.passiveEffectEngine != null) {
+            for (Player player : Bukkit.getOnlinePlayers()) {
+                this.passiveEffectEngine.clear(player);
+            }
+        }
+
+        if (this.executionWatchdog != null) {
+            this.executionWatchdog.cancelAll("plugin disabled", 1000);
+            this.executionWatchdog.stop();
+        }
+
+        //the scheduler no longer runs tasks for this plugin, so the batch is applied right away instead of on the next tick
+        RecipeBatcher recipeBatcher = this.cache.getRecipeBatcher();
+        recipeBatcher.beginBatch();
+
         for (CustomItem item : this.cache.getItems()) {
             ImmutableList<Recipe> recipes = item.getRecipes();
 
@@ -278,13 +371,15 @@ public final class InnovativeItems extends JavaPlugin {
                     continue;
                 }
 
-                Keyed keyed = (Keyed) recipe;
-
-                if (!Bukkit.removeRecipe(keyed.getKey())) {
-                    LogUtil.log(LogUtil.Level.WARNING, "An error occurred while trying to unregister the custom crafting recipe for the " + item.getIdentifier() + " custom item!");
-                }
+                recipeBatcher.remove(((Keyed) recipe).getKey());
             }
         }
+
+        if (recipeBatcher.flush()) {
+            Bukkit.updateRecipes();
+        }
+
+        recipeBatcher.endBatch(); //nothing is left to schedule
     }
 
     /**
@@ -361,6 +456,16 @@ public final class InnovativeItems extends JavaPlugin {
         return this.timerManager;
     }
 
+    /**
+     * A method used to return the active instance of the aura manager
+     *
+     * @return the active instance of the aura manager
+     */
+    @NotNull
+    public AuraManager getAuraManager() {
+        return this.auraManager;
+    }
+
     /**
      * A method used to return the active instance of the item defender
      *
@@ -371,12 +476,92 @@ public final class InnovativeItems extends JavaPlugin {
         return this.itemDefender;
     }
 
+    /**
+     * A method used to return the active instance of the equipment index
+     *
+     * @return the active instance of the equipment index
+     */
+    @NotNull
+    public EquipmentIndex getEquipmentIndex() {
+        return this.equipmentIndex;
+    }
+
+    /**
+     * A method used to return the active instance of the mob equipment index
+     *
+     * @return the active instance of the mob equipment index
+     */
+    @NotNull
+    public MobEquipmentIndex getMobEquipmentIndex() {
+        return this.mobEquipmentIndex;
+    }
+
+    /**
+     * A method used to return the active instance of the passive effect engine
+     *
+     * @return the active instance of the passive effect engine
+     */
+    @NotNull
+    public PassiveEffectEngine getPassiveEffectEngine() {
+        return this.passiveEffectEngine;
+    }
+
+    /**
+     * A method used to return the active instance of the item set tracker
+     *
+     * @return the active instance of the item set tracker
+     */
+    @NotNull
+    public ItemSetTracker getItemSetTracker() {
+        return this.itemSetTracker;
+    }
+
+    /**
+     * A method used to return the active instance of the trigger rate limiter
+     *
+     * @return the active instance of the trigger rate limiter
+     */
+    @NotNull
+    public TriggerRateLimiter getTriggerRateLimiter() {
+        return this.triggerRateLimiter;
+    }
+
+    /**
+     * A method used to return the active instance of the execution watchdog
+     *
+     * @return the active instance of the execution watchdog
+     */
+    @NotNull
+    public ExecutionWatchdog getExecutionWatchdog() {
+        return this.executionWatchdog;
+    }
+
+    /**
+     * A method used to return the active instance of the ability profiler
+     *
+     * @return the active instance of the ability profiler
+     */
+    @NotNull
+    public AbilityProfiler getAbilityProfiler() {
+        return this.abilityProfiler;
+    }
+
+    /**
+     * A method used to return the active instance of the listener timings
+     *
+     * @return the active instance of the listener timings
+     */
+    @NotNull
+    public ListenerTimings getListenerTimings() {
+        return this.listenerTimings;
+    }
+
     /**
      * Dumb util method to avoid repetitive code
      */
     private void registerListeners(@NotNull Listener... listeners) {
         for (Listener listener : listeners) {
-            Bukkit.getPluginManager().registerEvents(listener, this);
+            this.listenerTimings.register(listener, this);
         }
     }
 }
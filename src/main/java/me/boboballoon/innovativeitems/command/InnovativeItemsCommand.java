@@ -11,9 +11,14 @@ import co.aikar.commands.annotation.Subcommand;
 import me.boboballoon.innovativeitems.InnovativeItems;
 import me.boboballoon.innovativeitems.config.ConfigManager;
 import me.boboballoon.innovativeitems.items.ability.Ability;
+import me.boboballoon.innovativeitems.items.ability.trigger.TriggerRateLimiter;
 import me.boboballoon.innovativeitems.items.item.CustomItem;
+import me.boboballoon.innovativeitems.profiler.AbilityProfiler;
+import me.boboballoon.innovativeitems.profiler.ListenerTimings;
+import me.boboballoon.innovativeitems.profiler.ProfileEntry;
 import me.boboballoon.innovativeitems.ui.ItemBuilderView;
 import me.boboballoon.innovativeitems.util.InventoryUtil;
+import me.boboballoon.innovativeitems.util.LogUtil;
 import me.boboballoon.innovativeitems.util.TextUtil;
 import org.apache.commons.*;
 import org.apache.commons.lang3.StringUtils;
@@ -21,8 +26,12 @@ import org.bukkit.Bukkit;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 /**
  * Base command for all subcommands in innovative items
@@ -37,7 +46,10 @@ public class InnovativeItemsCommand extends BaseCommand {
             TextUtil.format("&r&e&l- /innovativeitems reload"),
             TextUtil.format("&r&e&l- /innovativeitems execute <ability> <player>"),
             TextUtil.format("&r&e&l- /innovativeitems clean <player>"),
-            TextUtil.format("&r&e&l- /innovativeitems create <item-identifier>"));
+            TextUtil.format("&r&e&l- /innovativeitems create <item-identifier>"),
+            TextUtil.format("&r&e&l- /innovativeitems ratelimit [reset]"),
+            TextUtil.format("&r&e&l- /innovativeitems profile <start|stop|report>"),
+            TextUtil.format("&r&e&l- /innovativeitems timings [seconds|export]"));
 
     /**
      * A "command" that gives a player all the possible commands they can execute
@@ -257,4 +269,149 @@ public class InnovativeItemsCommand extends BaseCommand {
         ItemBuilderView builder = new ItemBuilderView(args[0]);
         builder.open(player);
     }
+
+    /**
+     * A "command" used to view or reset the amount of ability triggers rejected by the trigger rate limiter
+     */
+    @Subcommand("ratelimit")
+    @CommandCompletion("reset @nothing")
+    public void onRateLimit(CommandSender sender, String[] args) {
+        TriggerRateLimiter rateLimiter = InnovativeItems.getInstance().getTriggerRateLimiter();
+
+        if (args.length == 1 && args[0].equalsIgnoreCase("reset")) {
+            rateLimiter.resetCounters();
+            TextUtil.sendMessage(sender, "&r&aYou have reset the trigger rate limiter counters!");
+            return;
+        }
+
+        if (args.length != 0) {
+            TextUtil.sendMessage(sender, "&r&cYou have entered improper arguments to execute this command!");
+            this.onHelp(sender);
+            return;
+        }
+
+        TriggerRateLimiter.RateLimit limit = rateLimiter.getDefaultLimit();
+        TextUtil.sendMessage(sender, "&r&aThe trigger rate limiter is " + (rateLimiter.isEnabled() ? "enabled" : "disabled") + " (capacity: " + limit.getCapacity() + ", refill per second: " + limit.getRefillPerSecond() + ") and has rejected " + rateLimiter.getRejected() + " triggers!");
+
+        for (Map.Entry<String, Long> entry : rateLimiter.getRejectedTriggers().entrySet()) {
+            TextUtil.sendMessage(sender, "&r&e- " + entry.getKey() + ": " + entry.getValue());
+        }
+
+        for (Map.Entry<UUID, Long> entry : rateLimiter.getRejectedPlayers().entrySet()) {
+            String name = Bukkit.getOfflinePlayer(entry.getKey()).getName();
+            TextUtil.sendMessage(sender, "&r&e- " + (name != null ? name : entry.getKey().toString()) + ": " + entry.getValue());
+        }
+    }
+
+    /**
+     * A "command" used to start, stop or view the ability profiler
+     */
+    @Subcommand("profile")
+    @CommandCompletion("start|stop|report @nothing")
+    public void onProfile(CommandSender sender, String[] args) {
+        if (args.length != 1) {
+            TextUtil.sendMessage(sender, "&r&cYou have entered improper arguments to execute this command!");
+            this.onHelp(sender);
+            return;
+        }
+
+        AbilityProfiler profiler = InnovativeItems.getInstance().getAbilityProfiler();
+
+        switch (args[0].toLowerCase()) {
+            case "start":
+                profiler.start();
+                TextUtil.sendMessage(sender, "&r&aThe ability profiler has started recording!");
+                break;
+            case "stop":
+                profiler.stop();
+                TextUtil.sendMessage(sender, "&r&aThe ability profiler has stopped recording after " + profiler.getDuration() / 1000 + " seconds!");
+                break;
+            case "report":
+                this.sendProfileReport(sender, profiler);
+                break;
+            default:
+                TextUtil.sendMessage(sender, "&r&cYou have entered improper arguments to execute this command!");
+                this.onHelp(sender);
+        }
+    }
+
+    /**
+     * A util method used to send the top entries of the ability profiler to the sender and export every entry
+     */
+    private void sendProfileReport(CommandSender sender, AbilityProfiler profiler) {
+        List<ProfileEntry.Snapshot> snapshots = profiler.getSnapshots(null);
+
+        if (snapshots.isEmpty()) {
+            TextUtil.sendMessage(sender, "&r&cThe ability profiler has not recorded anything yet!");
+            return;
+        }
+
+        TextUtil.sendMessage(sender, "&r&aAbility profile of the last " + profiler.getDuration() / 1000 + " seconds (total ms, count, p50/p95/p99 us, main thread wait/time ms):");
+
+        for (ProfileEntry.Snapshot snapshot : snapshots.subList(0, Math.min(snapshots.size(), 10))) {
+            TextUtil.sendMessage(sender, "&r&e- " + snapshot.getLabel() + ": " + AbilityProfiler.toMillis(snapshot.getWall()) + "ms, " + snapshot.getCount() + "x, "
+                    + AbilityProfiler.toMicros(snapshot.getPercentile(50)) + "/" + AbilityProfiler.toMicros(snapshot.getPercentile(95)) + "/" + AbilityProfiler.toMicros(snapshot.getPercentile(99)) + "us, "
+                    + AbilityProfiler.toMillis(snapshot.getWait()) + "/" + AbilityProfiler.toMillis(snapshot.getMain()) + "ms");
+        }
+
+        Bukkit.getScheduler().runTaskAsynchronously(InnovativeItems.getInstance(), () -> {
+            try {
+                File file = profiler.export(new File(InnovativeItems.getInstance().getDataFolder(), "profiles"));
+                TextUtil.sendMessage(sender, "&r&aThe full ability profile has been saved to " + file.getPath() + "!");
+            } catch (IOException e) {
+                LogUtil.log(LogUtil.Level.WARNING, "There was an error trying to save the ability profile!");
+                TextUtil.sendMessage(sender, "&r&cThere was an error trying to save the ability profile!");
+            }
+        });
+    }
+
+    /**
+     * A "command" used to view or export how much main thread time every listener of the plugin costs
+     */
+    @Subcommand("timings")
+    @CommandCompletion("1|10|60|export @nothing")
+    public void onTimings(CommandSender sender, String[] args) {
+        if (args.length > 1) {
+            TextUtil.sendMessage(sender, "&r&cYou have entered improper arguments to execute this command!");
+            this.onHelp(sender);
+            return;
+        }
+
+        ListenerTimings timings = InnovativeItems.getInstance().getListenerTimings();
+
+        if (args.length == 1 && args[0].equalsIgnoreCase("export")) {
+            Bukkit.getScheduler().runTaskAsynchronously(InnovativeItems.getInstance(), () -> {
+                try {
+                    File file = timings.export(new File(InnovativeItems.getInstance().getDataFolder(), "profiles"));
+                    TextUtil.sendMessage(sender, "&r&aThe listener timings have been saved to " + file.getPath() + "!");
+                } catch (IOException e) {
+                    LogUtil.log(LogUtil.Level.WARNING, "There was an error trying to save the listener timings!");
+                    TextUtil.sendMessage(sender, "&r&cThere was an error trying to save the listener timings!");
+                }
+            });
+            return;
+        }
+
+        int seconds = ListenerTimings.WINDOWS;
+        if (args.length == 1) {
+            try {
+                seconds = Integer.parseInt(args[0]);
+            } catch (NumberFormatException e) {
+                seconds = 0;
+            }
+
+            if (seconds <= 0 || seconds > ListenerTimings.WINDOWS) {
+                TextUtil.sendMessage(sender, "&r&cYou have entered an invalid amount of seconds!");
+                return;
+            }
+        }
+
+        TextUtil.sendMessage(sender, "&r&aListener timings of the last " + seconds + " seconds (calls, us per tick):");
+
+        List<ListenerTimings.Window.Snapshot> snapshots = timings.getSnapshots(seconds);
+
+        for (ListenerTimings.Window.Snapshot snapshot : snapshots.subList(0, Math.min(snapshots.size(), 10))) {
+            TextUtil.sendMessage(sender, "&r&e- " + snapshot.getListener() + " (" + snapshot.getEvent() + "): " + snapshot.getCalls() + "x, " + AbilityProfiler.toMicros(snapshot.getNanosPerTick()) + "us");
+        }
+    }
 }
@@ -14,15 +14,14 @@ import me.boboballoon.innovativeitems.items.InnovativeCache;
 import me.boboballoon.innovativeitems.items.ability.Ability;
 import me.boboballoon.innovativeitems.items.ability.AbilityCooldown;
 import me.boboballoon.innovativeitems.items.ability.trigger.AbilityTrigger;
+import me.boboballoon.innovativeitems.items.ability.trigger.TriggerRateLimiter;
 import me.boboballoon.innovativeitems.util.LogUtil;
-import me.boboballoon.innovativeitems.util.RegexUtil;
 import net.md_5.bungee.api.ChatMessageType;
 import org.bukkit.configuration.ConfigurationSection;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -85,13 +84,15 @@ public final class AbilityParser {
 
         ImmutableList<ActiveCondition> conditions = AbilityParser.getAbilityConditions(section, trigger, name);
 
+        TriggerRateLimiter.RateLimit rateLimit = AbilityParser.getRateLimit(section, trigger, name);
+
         int cooldown = section.getInt("cooldown"); //if it does not exist it will return 0
         if (cooldown > 0) { //if the cooldown is > 0 that means it must exist and it also is valid
             //if show-cooldown does not exist it will return false (the proper default) if it is true that means it was set explicitly to true
-            return new AbilityCooldown(name, keywords, conditions, trigger, section.getString("trigger"), cooldown, AbilityParser.getCooldownMessage(section, name));
+            return new AbilityCooldown(name, keywords, conditions, trigger, section.getString("trigger"), rateLimit, cooldown, AbilityParser.getCooldownMessage(section, name));
         }
 
-        return new Ability(name, keywords, conditions, trigger, section.getString("trigger"));
+        return new Ability(name, keywords, conditions, trigger, section.getString("trigger"), rateLimit);
     }
 
     /**
@@ -143,30 +144,23 @@ public final class AbilityParser {
         List<ActiveKeyword> keywords = new ArrayList<>();
 
         for (int i = 0; i < raw.size(); i++) {
-            String line = raw.get(i);
-
-            if (!line.matches("\\w+\\(.*\\)")) { //regex = ^\w+\(.*\)$ (^ and $ are already put in inside of the match method)
-                LogUtil.log(LogUtil.Level.WARNING, "There was an error parsing line " + (i + 1) + " on keywords on ability " + abilityName + "! Did you format it correctly?");
-                continue;
-            }
-
-            String[] split = RegexUtil.splitLiteralWithEscape(line, "(");
+            FunctionLineParser.FunctionCall call = AbilityParser.parseLine(raw.get(i), i, abilityName, true);
 
-            if (split.length != 2) {
-                LogUtil.log(LogUtil.Level.WARNING, "There was an error parsing line " + (i + 1) + " on keywords on ability " + abilityName + "! Did you format it correctly?");
+            if (call == null) {
+                //already sent error message in the parseLine() method
                 continue;
             }
 
-            Keyword keyword = InnovativeItems.getInstance().getFunctionManager().getKeyword(split[0]);
+            Keyword keyword = InnovativeItems.getInstance().getFunctionManager().getKeyword(call.getName());
 
-            ImmutableList<Object> parsedArguments = AbilityParser.checkAndParse(keyword, i, abilityName, split, trigger, true);
+            ImmutableList<Object> parsedArguments = AbilityParser.checkAndParse(keyword, i, abilityName, call, trigger, true);
 
             if (parsedArguments == null) {
                 //already sent error message in the checkAndParse() method
                 continue;
             }
 
-            keywords.add(new ActiveKeyword(keyword, parsedArguments));
+            keywords.add(InnovativeItems.getInstance().getFunctionManager().getInterner().intern(keyword, parsedArguments));
         }
 
         return ImmutableList.copyOf(keywords);
@@ -186,42 +180,51 @@ public final class AbilityParser {
         List<ActiveCondition> conditions = new ArrayList<>();
 
         for (int i = 0; i < raw.size(); i++) {
-            String line = raw.get(i);
-
-            boolean inverted;
-            if (line.matches("\\w+\\(.*\\)")) { //regex = ^\w+\(.*\)$
-                inverted = false;
-            } else if (line.matches("!\\w+\\(.*\\)")) { //regex = ^!\w+\(.*\)$
-                inverted = true;
-            } else {
-                LogUtil.log(LogUtil.Level.WARNING, "There was an error parsing line " + (i + 1) + " on conditions on ability " + abilityName + "! Did you format it correctly?");
-                continue;
-            }
-
-            String[] split = RegexUtil.splitLiteralWithEscape(line, "(");
+            FunctionLineParser.FunctionCall call = AbilityParser.parseLine(raw.get(i), i, abilityName, false);
 
-            if (split.length != 2) {
-                LogUtil.log(LogUtil.Level.WARNING, "There was an error parsing line " + (i + 1) + " on conditions on ability " + abilityName + "! Did you format it correctly?");
+            if (call == null) {
+                //already sent error message in the parseLine() method
                 continue;
             }
 
-            String conditionName = !inverted ? split[0] : split[0].substring(1);
-
-            Condition condition = InnovativeItems.getInstance().getFunctionManager().getCondition(conditionName);
+            Condition condition = InnovativeItems.getInstance().getFunctionManager().getCondition(call.getName());
 
-            ImmutableList<Object> parsedArguments = AbilityParser.checkAndParse(condition, i, abilityName, split, trigger, false);
+            ImmutableList<Object> parsedArguments = AbilityParser.checkAndParse(condition, i, abilityName, call, trigger, false);
 
             if (parsedArguments == null) {
                 //already sent error message in the checkAndParse() method
                 continue;
             }
 
-            conditions.add(new ActiveCondition(condition, parsedArguments, inverted));
+            conditions.add(InnovativeItems.getInstance().getFunctionManager().getInterner().intern(condition, parsedArguments, call.isInverted()));
         }
 
         return ImmutableList.copyOf(conditions);
     }
 
+    /**
+     * A utility method used to parse a single keyword or condition line, logging the column of the error if it is not a valid function call
+     */
+    @Nullable
+    private static FunctionLineParser.FunctionCall parseLine(@NotNull String line, int i, @NotNull String abilityName, boolean keyword) {
+        String types = keyword ? "keywords" : "conditions";
+        FunctionLineParser.FunctionCall call;
+
+        try {
+            call = FunctionLineParser.parse(line);
+        } catch (FunctionLineParser.SyntaxException e) {
+            LogUtil.log(LogUtil.Level.WARNING, "There was an error parsing line " + (i + 1) + " column " + e.getColumn() + " on " + types + " on ability " + abilityName + ", " + e.getMessage() + "! Did you format it correctly?");
+            return null;
+        }
+
+        if (keyword && call.isInverted()) {
+            LogUtil.log(LogUtil.Level.WARNING, "There was an error parsing line " + (i + 1) + " column " + (call.getColumn() - 1) + " on " + types + " on ability " + abilityName + ", only conditions can be inverted with \"!\"!");
+            return null;
+        }
+
+        return call;
+    }
+
     /**
      * A utility method used to get the raw string lines of an ability
      */
@@ -269,16 +272,39 @@ public final class AbilityParser {
         return new AbilityCooldown.CooldownMessage(message, messageType);
     }
 
+    /**
+     * A utility method used to get the rate limit that overrides the global trigger rate limit
+     */
+    @Nullable
+    private static TriggerRateLimiter.RateLimit getRateLimit(@NotNull ConfigurationSection section, @NotNull AbilityTrigger<?, ?> trigger, @NotNull String abilityName) {
+        if (!section.isConfigurationSection("rate-limit")) {
+            return null;
+        }
+
+        if (trigger.getRateLimitScope() == TriggerRateLimiter.Scope.NONE) {
+            LogUtil.log(LogUtil.Level.WARNING, "The " + trigger.getIdentifier() + " ability trigger used on " + abilityName + " is never rate limited, ignoring its rate limit...");
+            return null;
+        }
+
+        TriggerRateLimiter.RateLimit rateLimit = TriggerRateLimiter.RateLimit.fromSection(section.getConfigurationSection("rate-limit"));
+
+        if (rateLimit == null) {
+            LogUtil.log(LogUtil.Level.WARNING, "There was an error parsing the rate limit for " + abilityName + ", are you sure that you provided a capacity and refill-per-second that are greater than zero?");
+        }
+
+        return rateLimit;
+    }
+
     /**
      * A utility method used to clean up and centralize the parsing process
      */
     @Nullable
-    private static ImmutableList<Object> checkAndParse(@Nullable InnovativeFunction<?> function, int i, @NotNull String abilityName, @NotNull String[] split, @NotNull AbilityTrigger<?, ?> trigger, boolean keyword) {
+    private static ImmutableList<Object> checkAndParse(@Nullable InnovativeFunction<?> function, int i, @NotNull String abilityName, @NotNull FunctionLineParser.FunctionCall call, @NotNull AbilityTrigger<?, ?> trigger, boolean keyword) {
         String type = keyword ? "keyword" : "condition";
         String types = type + "s";
 
         if (function == null) {
-            LogUtil.log(LogUtil.Level.WARNING, "There was an error parsing line " + (i + 1) + " on " + types + " on ability " + abilityName + "! Did you use a valid " + type + "?");
+            LogUtil.log(LogUtil.Level.WARNING, "There was an error parsing line " + (i + 1) + " column " + call.getColumn() + " on " + types + " on ability " + abilityName + ", " + call.getName() + " is not a " + type + "! Did you use a valid " + type + "?");
             return null;
         }
 
@@ -286,30 +312,42 @@ public final class AbilityParser {
             LogUtil.log(LogUtil.Level.WARNING, "While loading " + abilityName + " the usage of the " + type + " by the name of " + function.getIdentifier() + " was detected... It is not recommended to use this " + type + " and should be removed as soon as possible!");
         }
 
-        boolean hasVararg = function.getArguments().size() != 0 && function.getArguments().get(function.getArguments().size() - 1) instanceof ExpectedVarArg;
+        int expected = function.getArguments().size();
+        boolean hasVararg = expected != 0 && function.getArguments().get(expected - 1) instanceof ExpectedVarArg;
+        ImmutableList<FunctionLineParser.Argument> arguments = call.getArguments();
 
-        String[] rawArguments = RegexUtil.splitLiteralWithEscape(split[1].substring(0, split[1].length() - 1), ",", hasVararg ? function.getArguments().size() : 0);
+        if (arguments.size() != expected && !hasVararg) {
+            LogUtil.log(LogUtil.Level.WARNING, "There are currently an invalid amount of arguments provided on the " + function.getIdentifier() + " " + type + " on line " + (i + 1) + " of the " + abilityName + " ability! Expected " + expected + " but found " + arguments.size() + "!");
+            return null;
+        }
 
-        rawArguments = Arrays.stream(rawArguments).map(String::trim).toArray(String[]::new);
+        //the var-arg receives every remaining argument as split by the line parser, so commas inside quoted values stay part of their value
+        int size = hasVararg ? Math.min(arguments.size(), expected) : arguments.size();
+        String[] rawArguments = new String[size];
+        List<String> varArgs = null;
 
-        //in the case of no arguments provided
-        if (rawArguments.length == 1 && rawArguments[0].equals("")) {
-            rawArguments = new String[0];
+        for (int j = 0; j < size; j++) {
+            rawArguments[j] = arguments.get(j).getValue();
         }
 
-        if (rawArguments.length != function.getArguments().size() && !hasVararg) {
-            LogUtil.log(LogUtil.Level.WARNING, "There are currently an invalid amount of arguments provided on the " + function.getIdentifier() + " " + type + " on line " + (i + 1) + " of the " + abilityName + " ability!");
-            return null;
+        if (hasVararg && arguments.size() >= expected) {
+            varArgs = new ArrayList<>();
+
+            for (int j = expected - 1; j < arguments.size(); j++) {
+                varArgs.add(arguments.get(j).getValue());
+            }
+
+            rawArguments[size - 1] = String.join(",", varArgs); //only kept for the raw arguments of the context
         }
 
-        return AbilityParser.parseArguments(rawArguments, new FunctionContext(function, rawArguments, abilityName, trigger, i + 1));
+        return AbilityParser.parseArguments(rawArguments, varArgs, new FunctionContext(function, rawArguments, abilityName, trigger, i + 1));
     }
 
     /**
      * A util method that parses and initializes the rest of the arguments
      */
     @NotNull
-    private static ImmutableList<Object> parseArguments(@NotNull String[] rawArguments, @NotNull FunctionContext context) {
+    private static ImmutableList<Object> parseArguments(@NotNull String[] rawArguments, @Nullable List<String> varArgs, @NotNull FunctionContext context) {
         List<Object> parsedArguments = new ArrayList<>();
 
         for (int i = 0; i < rawArguments.length; i++) {
@@ -319,7 +357,11 @@ public final class AbilityParser {
             ExpectedArguments expectedArgument = context.getFunction().getArguments().get(i);
 
             try {
-                parsedValue = expectedArgument.getValue(rawArgument, context);
+                if (varArgs != null && i == rawArguments.length - 1) {
+                    parsedValue = ((ExpectedVarArg) expectedArgument).getValues(varArgs, context);
+                } else {
+                    parsedValue = expectedArgument.getValue(rawArgument, context);
+                }
             } catch (Exception ignored) {}
 
             if (parsedValue == null) {
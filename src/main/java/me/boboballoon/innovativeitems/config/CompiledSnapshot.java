@@ -0,0 +1,266 @@
+package me.boboballoon.innovativeitems.config;
+
+import de.tr7zw.nbtapi.NBTContainer;
+import de.tr7zw.nbtapi.NBTItem;
+import me.boboballoon.innovativeitems.InnovativeItems;
+import me.boboballoon.innovativeitems.util.LogUtil;
+import org.bukkit.Bukkit;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A class that represents a binary snapshot of the itemstacks built for custom items, keyed by the content hash of the file each item was loaded from so unchanged files skip building their itemstacks on startup
+ */
+public final class CompiledSnapshot {
+    private static final int MAGIC = 0x49494353; //IICS
+    private static final int FORMAT = 1; //increase whenever the layout of the file changes
+
+    private final File file;
+    private final Map<String, Entry> previous; //entries read from disk, never changed after load
+    private final Map<String, Entry> current; //entries of the files loaded since, written by save
+    private final AtomicInteger hits;
+
+    public CompiledSnapshot(@NotNull File file) {
+        this.file = file;
+        this.previous = new HashMap<>();
+        this.current = new ConcurrentHashMap<>();
+        this.hits = new AtomicInteger();
+    }
+
+    /**
+     * A method used to read the snapshot from disk, a snapshot that is missing, corrupt or was written by another plugin or server version is discarded
+     */
+    public void load() {
+        this.previous.clear();
+        this.current.clear();
+        this.hits.set(0);
+
+        if (!this.file.exists()) {
+            return;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(this.file.toPath())))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT || !in.readUTF().equals(CompiledSnapshot.getVersion())) {
+                LogUtil.log(LogUtil.Level.INFO, "The compiled config snapshot is outdated and will be rebuilt!");
+                this.discard();
+                return;
+            }
+
+            int files = in.readInt();
+
+            for (int i = 0; i < files; i++) {
+                String name = in.readUTF();
+                byte[] hash = new byte[in.readInt()];
+                in.readFully(hash);
+
+                Entry entry = new Entry(hash);
+                int items = in.readInt();
+
+                for (int j = 0; j < items; j++) {
+                    entry.items.put(in.readUTF(), CompiledSnapshot.readString(in));
+                }
+
+                this.previous.put(name, entry);
+            }
+        } catch (IOException | RuntimeException e) {
+            LogUtil.log(LogUtil.Level.WARNING, "The compiled config snapshot could not be read and will be rebuilt!");
+            if (InnovativeItems.getInstance().getConfigManager().getDebugLevel() >= LogUtil.Level.DEV.getDebugLevel()) {
+                e.printStackTrace();
+            }
+            this.discard();
+        }
+    }
+
+    /**
+     * A method used to write every entry added since the last load to disk, replacing the old snapshot at once so a crash never leaves half a file behind
+     */
+    public void save() {
+        File temp = new File(this.file.getParentFile(), this.file.getName() + ".tmp");
+
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp.toPath())))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT);
+                out.writeUTF(CompiledSnapshot.getVersion());
+                out.writeInt(this.current.size());
+
+                for (Map.Entry<String, Entry> file : this.current.entrySet()) {
+                    Entry entry = file.getValue();
+                    out.writeUTF(file.getKey());
+                    out.writeInt(entry.hash.length);
+                    out.write(entry.hash);
+                    out.writeInt(entry.items.size());
+
+                    for (Map.Entry<String, String> item : entry.items.entrySet()) {
+                        out.writeUTF(item.getKey());
+                        CompiledSnapshot.writeString(out, item.getValue());
+                    }
+                }
+            }
+
+            try {
+                Files.move(temp.toPath(), this.file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp.toPath(), this.file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            LogUtil.log(LogUtil.Level.WARNING, "An error occurred while trying to write the compiled config snapshot!");
+            if (InnovativeItems.getInstance().getConfigManager().getDebugLevel() >= LogUtil.Level.DEV.getDebugLevel()) {
+                e.printStackTrace();
+            }
+            temp.delete();
+        }
+    }
+
+    /**
+     * A method used to delete the snapshot and forget every entry
+     */
+    public void discard() {
+        this.previous.clear();
+        this.current.clear();
+
+        if (this.file.exists() && !this.file.delete()) {
+            LogUtil.log(LogUtil.Level.WARNING, "An error occurred while trying to delete the compiled config snapshot!");
+        }
+    }
+
+    /**
+     * A method that returns the itemstack that was built for an item the last time its file had the same contents (safe to call async)
+     *
+     * @param source the file the item was loaded from
+     * @param hash the content hash of the file
+     * @param name the name of the item
+     * @return the itemstack (null if the file changed since or the item was not in the snapshot)
+     */
+    @Nullable
+    public ItemStack getItem(@NotNull File source, @NotNull byte[] hash, @NotNull String name) {
+        Entry entry = this.previous.get(source.getName());
+
+        if (entry == null || !Arrays.equals(entry.hash, hash)) {
+            return null;
+        }
+
+        String compound = entry.items.get(name);
+
+        if (compound == null) {
+            return null;
+        }
+
+        ItemStack item;
+        try {
+            item = NBTItem.convertNBTtoItem(new NBTContainer(compound));
+        } catch (RuntimeException e) {
+            return null; //the item is built again and replaces this entry
+        }
+
+        if (item == null) {
+            return null;
+        }
+
+        this.current.computeIfAbsent(source.getName(), key -> new Entry(hash)).items.put(name, compound);
+        this.hits.incrementAndGet();
+        return item;
+    }
+
+    /**
+     * A method used to add an itemstack that was just built for an item to the snapshot (safe to call async)
+     *
+     * @param source the file the item was loaded from
+     * @param hash the content hash of the file
+     * @param name the name of the item
+     * @param item the itemstack
+     */
+    public void putItem(@NotNull File source, @NotNull byte[] hash, @NotNull String name, @NotNull ItemStack item) {
+        String compound;
+        try {
+            compound = NBTItem.convertItemtoNBT(item).toString();
+        } catch (RuntimeException e) {
+            return; //the item is simply built again on the next startup
+        }
+
+        this.current.computeIfAbsent(source.getName(), key -> new Entry(hash)).items.put(name, compound);
+    }
+
+    /**
+     * A method that returns the amount of itemstacks that were read from the snapshot since the last load
+     *
+     * @return the amount of itemstacks that were read from the snapshot since the last load
+     */
+    public int getHits() {
+        return this.hits.get();
+    }
+
+    /**
+     * A method that returns the content hash of a file
+     *
+     * @param file the file
+     * @return the content hash of the file (null if the file could not be read)
+     */
+    @Nullable
+    public static byte[] hash(@NotNull File file) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(file.toPath()));
+        } catch (IOException | NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+
+    /**
+     * A util method that returns the version an itemstack depends on, the plugin version and the server version
+     */
+    @NotNull
+    private static String getVersion() {
+        return InnovativeItems.getInstance().getDescription().getVersion() + "/" + Bukkit.getBukkitVersion();
+    }
+
+    /**
+     * A util method used to read a string that may be longer than DataInputStream.readUTF allows
+     */
+    @NotNull
+    private static String readString(@NotNull DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A util method used to write a string that may be longer than DataOutputStream.writeUTF allows
+     */
+    private static void writeString(@NotNull DataOutputStream out, @NotNull String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * A class that represents the itemstacks built from a single file
+     */
+    private static final class Entry {
+        private final byte[] hash;
+        private final Map<String, String> items;
+
+        private Entry(@NotNull byte[] hash) {
+            this.hash = hash;
+            this.items = new ConcurrentHashMap<>();
+        }
+    }
+}
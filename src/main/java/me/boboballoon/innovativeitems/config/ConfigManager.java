@@ -5,17 +5,26 @@ import me.boboballoon.innovativeitems.InnovativeItems;
 import me.boboballoon.innovativeitems.items.GarbageCollector;
 import me.boboballoon.innovativeitems.items.InnovativeCache;
 import me.boboballoon.innovativeitems.items.ItemDefender;
+import me.boboballoon.innovativeitems.items.RecipeBatcher;
+import me.boboballoon.innovativeitems.items.ability.Ability;
+import me.boboballoon.innovativeitems.items.ability.ExecutionWatchdog;
+import me.boboballoon.innovativeitems.items.ability.trigger.TriggerRateLimiter;
+import me.boboballoon.innovativeitems.items.ability.trigger.builtin.timer.AbilityTimerManager;
 import me.boboballoon.innovativeitems.items.item.CustomItem;
 import me.boboballoon.innovativeitems.items.item.RecipeType;
+import me.boboballoon.innovativeitems.items.set.ItemSet;
 import me.boboballoon.innovativeitems.util.LogUtil;
+import me.boboballoon.innovativeitems.util.RecipeUtil;
 import me.boboballoon.innovativeitems.util.TextUtil;
 import org.bukkit.Bukkit;
 import org.bukkit.Keyed;
+import org.bukkit.NamespacedKey;
 import org.bukkit.command.CommandSender;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.InvalidConfigurationException;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.Recipe;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
@@ -25,18 +34,32 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * A class used to cache and parse config files
  */
 public final class ConfigManager {
-    private static final ImmutableList<String> DEFAULT_ABILITIES = ImmutableList.of("fairy-fullset", "fairy-fullset-buff", "fairy-fullset-safety", "fairy-attack", "fairy-healing");
+    //fairy-fullset-safety is no longer generated but stays listed, servers that generated it before would otherwise count it towards the free limit
+    private static final ImmutableList<String> DEFAULT_ABILITIES = ImmutableList.of("fairy-fullset", "fairy-fullset-buff", "fairy-fullset-safety", "fairy-attack", "fairy-healing", "fairy-set-activated", "fairy-set-deactivated");
     private static final int MAX_FREE_ABILITIES = 15;
 
     //update checker
@@ -69,7 +92,35 @@ public final class ConfigManager {
     //item defender
     private boolean itemDefenderEnabledLocal;
 
+    //timer sharding
+    private long timerShardingThreshold;
+
+    //execution watchdog (copy of value)
+    private long executionBudgetLocal;
+
+    //trigger rate limiter (copy of values)
+    private boolean rateLimitEnabledLocal;
+    private TriggerRateLimiter.RateLimit rateLimitLocal;
+
+    //hot reload
+    private boolean hotReload;
+    private ConfigWatcher watcher;
+    private final ConfigSnapshot abilitySnapshot;
+    private final ConfigSnapshot itemSnapshot;
+    private final Object reloadLock; //full and incremental reloads never run at the same time
+
+    //compiled snapshot
+    private boolean useCompiledSnapshot;
+    private final CompiledSnapshot compiledSnapshot;
+
+    //lazy item stacks
+    private boolean lazyItemStacks;
+
     public ConfigManager() {
+        this.abilitySnapshot = new ConfigSnapshot();
+        this.itemSnapshot = new ConfigSnapshot();
+        this.compiledSnapshot = new CompiledSnapshot(new File(InnovativeItems.getInstance().getDataFolder(), "compiled.bin"));
+        this.reloadLock = new Object();
         this.reloadMainConfigValues();
     }
 
@@ -160,6 +211,75 @@ public final class ConfigManager {
         }
         this.setIsItemDefenderEnabled(enabled);
 
+        //load up the timer sharding threshold in ticks, sets to 20 if no value is present
+        long timerShardingThreshold;
+        if (config.isInt("timer-sharding-threshold") || config.isLong("timer-sharding-threshold")) {
+            timerShardingThreshold = config.getLong("timer-sharding-threshold");
+        } else {
+            timerShardingThreshold = 20;
+            config.set("timer-sharding-threshold", 20);
+        }
+        this.setTimerShardingThreshold(timerShardingThreshold);
+
+        //load up the execution budget in ticks, sets to 1200 (one minute) if no value is present
+        long executionBudget;
+        if (config.isInt("execution-budget") || config.isLong("execution-budget")) {
+            executionBudget = config.getLong("execution-budget");
+        } else {
+            executionBudget = 1200;
+            config.set("execution-budget", 1200);
+        }
+        this.setExecutionBudget(executionBudget);
+
+        //if the trigger rate limiter should be active, sets to true if no value is present
+        boolean rateLimitEnabled;
+        if (config.isBoolean("trigger-rate-limit.enabled")) {
+            rateLimitEnabled = config.getBoolean("trigger-rate-limit.enabled");
+        } else {
+            rateLimitEnabled = true;
+            config.set("trigger-rate-limit.enabled", true);
+        }
+        this.setIsRateLimitEnabled(rateLimitEnabled);
+
+        //load up the global trigger rate limit, sets to a burst of 10 that refills 10 per second if no valid value is present
+        TriggerRateLimiter.RateLimit rateLimit = config.isConfigurationSection("trigger-rate-limit") ? TriggerRateLimiter.RateLimit.fromSection(config.getConfigurationSection("trigger-rate-limit")) : null;
+        if (rateLimit == null) {
+            rateLimit = new TriggerRateLimiter.RateLimit(10, 10);
+            config.set("trigger-rate-limit.capacity", 10);
+            config.set("trigger-rate-limit.refill-per-second", 10);
+        }
+        this.setRateLimit(rateLimit);
+
+        //if changed ability and item files should be reloaded on their own, sets to false if no value is present
+        boolean hotReload;
+        if (config.isBoolean("hot-reload")) {
+            hotReload = config.getBoolean("hot-reload");
+        } else {
+            hotReload = false;
+            config.set("hot-reload", false);
+        }
+        this.setHotReload(hotReload);
+
+        //if the itemstacks of unchanged item files should be read from the compiled snapshot, sets to true if no value is present
+        boolean useCompiledSnapshot;
+        if (config.isBoolean("compiled-snapshot")) {
+            useCompiledSnapshot = config.getBoolean("compiled-snapshot");
+        } else {
+            useCompiledSnapshot = true;
+            config.set("compiled-snapshot", true);
+        }
+        this.setUseCompiledSnapshot(useCompiledSnapshot);
+
+        //if the itemstacks of custom items without recipes are built the first time they are needed, sets to true if no value is present
+        boolean lazyItemStacks;
+        if (config.isBoolean("lazy-item-stacks")) {
+            lazyItemStacks = config.getBoolean("lazy-item-stacks");
+        } else {
+            lazyItemStacks = true;
+            config.set("lazy-item-stacks", true);
+        }
+        this.setLoadItemStacksLazily(lazyItemStacks);
+
         plugin.saveConfig();
     }
 
@@ -285,6 +405,85 @@ public final class ConfigManager {
         this.itemDefenderEnabledLocal = itemDefenderEnabled;
     }
 
+    /**
+     * A method that returns the smallest timer delay in ticks that is sharded by default
+     *
+     * @return the smallest timer delay in ticks that is sharded by default (0 or less means timers are never sharded by default)
+     */
+    public long getTimerShardingThreshold() {
+        return this.timerShardingThreshold;
+    }
+
+    /**
+     * A method used to set the smallest timer delay in ticks that is sharded by default
+     *
+     * @param timerShardingThreshold the smallest timer delay in ticks that is sharded by default (0 or less means timers are never sharded by default)
+     */
+    public void setTimerShardingThreshold(long timerShardingThreshold) {
+        this.timerShardingThreshold = timerShardingThreshold;
+    }
+
+    /**
+     * (VALUE IS LOCAL AND DOES NOT ALWAYS MATCH THE ACTIVE INSTANCE OF THE LONG)
+     * A method used to get the amount of ticks a single ability execution is allowed to run for
+     *
+     * @return the amount of ticks a single ability execution is allowed to run for (0 or less means no deadline)
+     */
+    public long getExecutionBudget() {
+        return this.executionBudgetLocal;
+    }
+
+    /**
+     * (VALUE IS LOCAL AND DOES NOT ALWAYS MATCH THE ACTIVE INSTANCE OF THE LONG)
+     * A method used to set the amount of ticks a single ability execution is allowed to run for
+     *
+     * @param executionBudget the amount of ticks a single ability execution is allowed to run for (0 or less means no deadline)
+     */
+    public void setExecutionBudget(long executionBudget) {
+        this.executionBudgetLocal = executionBudget;
+    }
+
+    /**
+     * (VALUE IS LOCAL AND DOES NOT ALWAYS MATCH THE ACTIVE INSTANCE OF THE BOOLEAN)
+     * A method used to get if the trigger rate limiter should be active
+     *
+     * @return if the trigger rate limiter should be active
+     */
+    public boolean isRateLimitEnabled() {
+        return this.rateLimitEnabledLocal;
+    }
+
+    /**
+     * (VALUE IS LOCAL AND DOES NOT ALWAYS MATCH THE ACTIVE INSTANCE OF THE BOOLEAN)
+     * A method used to set if the trigger rate limiter should be active
+     *
+     * @param rateLimitEnabled a boolean that is true if the trigger rate limiter should be active
+     */
+    public void setIsRateLimitEnabled(boolean rateLimitEnabled) {
+        this.rateLimitEnabledLocal = rateLimitEnabled;
+    }
+
+    /**
+     * (VALUE IS LOCAL AND DOES NOT ALWAYS MATCH THE ACTIVE INSTANCE OF THE RATE LIMIT)
+     * A method used to get the rate limit applied to every trigger of every player
+     *
+     * @return the rate limit applied to every trigger of every player
+     */
+    @NotNull
+    public TriggerRateLimiter.RateLimit getRateLimit() {
+        return this.rateLimitLocal;
+    }
+
+    /**
+     * (VALUE IS LOCAL AND DOES NOT ALWAYS MATCH THE ACTIVE INSTANCE OF THE RATE LIMIT)
+     * A method used to set the rate limit applied to every trigger of every player
+     *
+     * @param rateLimit the rate limit applied to every trigger of every player
+     */
+    public void setRateLimit(@NotNull TriggerRateLimiter.RateLimit rateLimit) {
+        this.rateLimitLocal = rateLimit;
+    }
+
     /**
      * (VALUE IS LOCAL AND DOES NOT ALWAYS MATCH THE ACTIVE INSTANCE OF THE BOOLEAN)
      * A method that returns a boolean that is true when the garbage collector is set to update item mismatches
@@ -326,302 +525,1229 @@ public final class ConfigManager {
     }
 
     /**
-     * A method used to clear the cache and reload all elements
+     * A method that returns true when changed ability and item files are watched and reloaded on their own
      *
-     * @param sender the user who initiated the reload
+     * @return true when changed ability and item files are watched and reloaded on their own
      */
-    public void reload(@NotNull CommandSender sender) {
-        TextUtil.sendMessage(sender, "&r&aStarting plugin reload, some bugs may occur during this time...");
-        Bukkit.getScheduler().runTaskAsynchronously(InnovativeItems.getInstance(), () -> {
-            InnovativeItems plugin = InnovativeItems.getInstance();
-
-            LogUtil.log(LogUtil.Level.INFO, "Temporarily disabling garbage collector...");
+    public boolean isHotReload() {
+        return this.hotReload;
+    }
 
-            GarbageCollector garbageCollector = plugin.getGarbageCollector();
-            garbageCollector.setEnabled(false);
+    /**
+     * A method used to set whether changed ability and item files are watched and reloaded on their own (takes effect on the next init)
+     *
+     * @param hotReload true if changed ability and item files should be watched and reloaded on their own
+     */
+    public void setHotReload(boolean hotReload) {
+        this.hotReload = hotReload;
+    }
 
-            LogUtil.log(LogUtil.Level.INFO, "Starting basic config reload...");
+    /**
+     * A method that returns true if the itemstacks of unchanged item files are read from the compiled snapshot
+     *
+     * @return true if the itemstacks of unchanged item files are read from the compiled snapshot
+     */
+    public boolean shouldUseCompiledSnapshot() {
+        return this.useCompiledSnapshot;
+    }
 
-            plugin.reloadConfig();
+    /**
+     * A method used to set whether the itemstacks of unchanged item files are read from the compiled snapshot (takes effect on the next init)
+     *
+     * @param useCompiledSnapshot true if the itemstacks of unchanged item files should be read from the compiled snapshot
+     */
+    public void setUseCompiledSnapshot(boolean useCompiledSnapshot) {
+        this.useCompiledSnapshot = useCompiledSnapshot;
+    }
 
-            this.reloadMainConfigValues();
+    /**
+     * A method that returns true if the itemstacks of custom items without recipes are built the first time they are needed instead of while they are parsed
+     *
+     * @return true if the itemstacks of custom items without recipes are built the first time they are needed
+     */
+    public boolean shouldLoadItemStacksLazily() {
+        return this.lazyItemStacks;
+    }
 
-            LogUtil.log(LogUtil.Level.INFO, "Basic config reload complete!");
+    /**
+     * A method used to set whether the itemstacks of custom items without recipes are built the first time they are needed instead of while they are parsed (takes effect on the next init)
+     *
+     * @param lazyItemStacks true if the itemstacks of custom items without recipes should be built the first time they are needed
+     */
+    public void setLoadItemStacksLazily(boolean lazyItemStacks) {
+        this.lazyItemStacks = lazyItemStacks;
+    }
 
-            LogUtil.log(LogUtil.Level.INFO, "Starting cache invalidation...");
+    /**
+     * A method used to stop watching the config folders
+     */
+    public void shutdown() {
+        if (this.watcher != null) {
+            this.watcher.stop();
+            this.watcher = null;
+        }
+    }
 
-            InnovativeCache cache = plugin.getItemCache();
+    /**
+     * A method used to clear the cache and reload all elements
+     *
+     * @param sender the user who initiated the reload
+     */
+    public void reload(@NotNull CommandSender sender) {
+        TextUtil.sendMessage(sender, "&r&aStarting plugin reload, some bugs may occur during this time...");
+        Bukkit.getScheduler().runTaskAsynchronously(InnovativeItems.getInstance(), () -> {
+            synchronized (this.reloadLock) {
+                this.reloadAll(sender);
+            }
+        });
+    }
 
-            for (CustomItem item : cache.getItems()) {
-                ImmutableList<Recipe> recipes = item.getRecipes();
+    /**
+     * A util method used to clear the cache and reload all elements (called off the main thread while holding the reload lock)
+     */
+    private void reloadAll(@NotNull CommandSender sender) {
+        InnovativeItems plugin = InnovativeItems.getInstance();
 
-                if (recipes == null) {
-                    continue;
-                }
+        LogUtil.log(LogUtil.Level.INFO, "Temporarily disabling garbage collector...");
 
-                Bukkit.getScheduler().runTask(InnovativeItems.getInstance(), () -> {
-                    for (Recipe recipe : recipes) {
-                        if (!(recipe instanceof Keyed)) {
-                            LogUtil.log(LogUtil.Level.DEV, "An internal error has occurred, the recipe registered on the " + item.getIdentifier() + " item does not implement the keyed interface!");
-                            return;
-                        }
+        GarbageCollector garbageCollector = plugin.getGarbageCollector();
+        garbageCollector.setEnabled(false);
 
-                        Keyed keyed = (Keyed) recipe;
+        LogUtil.log(LogUtil.Level.INFO, "Starting basic config reload...");
 
-                        if (!Bukkit.removeRecipe(keyed.getKey())) {
-                            LogUtil.log(LogUtil.Level.WARNING, "An error occurred while trying to unregister the custom crafting recipe for the " + item.getIdentifier() + " custom item!");
-                        }
-                    }
-                });
-            }
+        plugin.reloadConfig();
 
-            cache.clearCache();
-            plugin.getAbilityTimerManager().clearCache();
+        this.reloadMainConfigValues();
 
-            LogUtil.log(LogUtil.Level.INFO, "Cache invalidation complete!");
+        LogUtil.log(LogUtil.Level.INFO, "Basic config reload complete!");
 
-            this.init();
+        LogUtil.log(LogUtil.Level.INFO, "Cancelling in-flight ability executions...");
 
-            LogUtil.log(LogUtil.Level.INFO, "Updating garbage collector settings to match config...");
+        ExecutionWatchdog watchdog = plugin.getExecutionWatchdog();
+        watchdog.cancelAll("plugin reloaded", 5000);
+        watchdog.setBudget(this.executionBudgetLocal);
 
-            garbageCollector.setShouldUpdate(this.shouldUpdateLocal);
-            garbageCollector.setShouldDelete(this.shouldDeleteLocal);
+        LogUtil.log(LogUtil.Level.INFO, "In-flight ability executions cancelled!");
 
-            LogUtil.log(LogUtil.Level.INFO, "Garbage collector settings now match config!");
+        LogUtil.log(LogUtil.Level.INFO, "Starting cache invalidation...");
 
-            LogUtil.log(LogUtil.Level.INFO, "Re-enabling garbage collector!");
+        InnovativeCache cache = plugin.getItemCache();
+        Map<NamespacedKey, Recipe> oldRecipes = ConfigManager.collectRecipes(cache);
 
-            garbageCollector.setEnabled(true);
+        cache.clearCache();
+        plugin.getAbilityTimerManager().invalidate(); //timers that are registered again keep their schedule
 
-            Bukkit.getScheduler().runTask(InnovativeItems.getInstance(), () -> garbageCollector.cleanAllPlayerInventories(true));
+        LogUtil.log(LogUtil.Level.INFO, "Cache invalidation complete!");
 
-            LogUtil.log(LogUtil.Level.INFO, "Updating item defender to match config...");
+        //recipes are compared against the previous ones once every item is parsed, so only the ones that changed are touched
+        cache.setDeferRecipes(true);
+        try {
+            this.init();
+        } finally {
+            cache.setDeferRecipes(false);
+        }
 
-            ItemDefender itemDefender = plugin.getItemDefender();
-            itemDefender.setEnabled(this.itemDefenderEnabledLocal);
+        ConfigManager.updateRecipes(cache, oldRecipes, ConfigManager.collectRecipes(cache));
 
-            LogUtil.log(LogUtil.Level.INFO, "Item defender settings now match config!");
+        plugin.getAbilityTimerManager().prune();
 
-            TextUtil.sendMessage(sender, "&r&aPlugin reload complete!");
+        //abilities may have gained or lost timer triggers and item sets may have changed
+        Bukkit.getScheduler().runTask(InnovativeItems.getInstance(), () -> {
+            plugin.getItemSetTracker().reload();
+            plugin.getEquipmentIndex().rescanAll();
+            plugin.getMobEquipmentIndex().rescanAll();
         });
-    }
 
-    /**
-     * A startup method to start parsing all config files
-     */
-    public void init() {
-        LogUtil.logUnblocked(LogUtil.Level.INFO, "Starting basic plugin initialization...");
+        LogUtil.log(LogUtil.Level.INFO, "Updating garbage collector settings to match config...");
 
-        InnovativeItems plugin = InnovativeItems.getInstance();
+        garbageCollector.setShouldUpdate(this.shouldUpdateLocal);
+        garbageCollector.setShouldDelete(this.shouldDeleteLocal);
 
-        LogUtil.log(LogUtil.Level.INFO, "Starting directory initialization...");
+        LogUtil.log(LogUtil.Level.INFO, "Garbage collector settings now match config!");
 
-        File home = plugin.getDataFolder();
-        File items = new File(home, "items");
-        File abilities = new File(home, "abilities");
+        LogUtil.log(LogUtil.Level.INFO, "Re-enabling garbage collector!");
 
-        if (!home.exists()) {
-            home.mkdir();
-        }
+        garbageCollector.setEnabled(true);
 
-        if (!items.exists()) {
-            items.mkdir();
-        }
+        Bukkit.getScheduler().runTask(InnovativeItems.getInstance(), () -> garbageCollector.cleanAllPlayerInventories(true));
 
-        if (!abilities.exists()) {
-            abilities.mkdir();
-        }
+        LogUtil.log(LogUtil.Level.INFO, "Updating item defender to match config...");
 
-        LogUtil.log(LogUtil.Level.INFO, "Directory initialization complete!");
+        ItemDefender itemDefender = plugin.getItemDefender();
+        itemDefender.setEnabled(this.itemDefenderEnabledLocal);
 
-        if (this.generateDefaultConfigs) {
-            this.generateDefaultConfigs(plugin, abilities, items);
-        }
+        LogUtil.log(LogUtil.Level.INFO, "Item defender settings now match config!");
 
-        InnovativeCache cache = plugin.getItemCache();
+        LogUtil.log(LogUtil.Level.INFO, "Updating trigger rate limiter to match config...");
 
-        this.loadAbilities(abilities, cache);
+        TriggerRateLimiter rateLimiter = plugin.getTriggerRateLimiter();
+        rateLimiter.setEnabled(this.rateLimitEnabledLocal);
+        rateLimiter.setDefaultLimit(this.rateLimitLocal);
+        Bukkit.getScheduler().runTask(InnovativeItems.getInstance(), rateLimiter::clearCache); //buckets are keyed by the old ability instances
 
-        this.loadItems(items, cache);
+        LogUtil.log(LogUtil.Level.INFO, "Trigger rate limiter settings now match config!");
 
-        LogUtil.logUnblocked(LogUtil.Level.INFO, "Basic plugin initialization complete!");
+        TextUtil.sendMessage(sender, "&r&aPlugin reload complete!");
     }
 
     /**
-     * A method used to generate the default configuration files
+     * A util method that returns the crafting recipes of every item in the cache by their key
      */
-    private void generateDefaultConfigs(@NotNull InnovativeItems plugin, @NotNull File abilities, @NotNull File items) {
-        LogUtil.log(LogUtil.Level.INFO, "Starting default configuration generation...");
-        File defaultAbilities = new File(abilities, "default-abilities.yml");
-        File defaultItems = new File(items, "default-items.yml");
+    @NotNull
+    private static Map<NamespacedKey, Recipe> collectRecipes(@NotNull InnovativeCache cache) {
+        Map<NamespacedKey, Recipe> recipes = new LinkedHashMap<>();
 
-        try {
-            if (!defaultAbilities.exists()) {
-                defaultAbilities.createNewFile();
-                Files.copy(plugin.getResource("default-abilities.yml"), defaultAbilities.toPath(), StandardCopyOption.REPLACE_EXISTING);
-                LogUtil.log(LogUtil.Level.INFO, "Created a new default abilities file!");
+        for (CustomItem item : cache.getItems()) {
+            if (item.getRecipes() == null) {
+                continue;
             }
 
-            if (!defaultItems.exists()) {
-                defaultItems.createNewFile();
-                Files.copy(plugin.getResource("default-items.yml"), defaultItems.toPath(), StandardCopyOption.REPLACE_EXISTING);
-                LogUtil.log(LogUtil.Level.INFO, "Created a new default items file!");
-            }
-        } catch (IOException e) {
-            LogUtil.log(LogUtil.Level.SEVERE, "There was an error trying to write a new file to disk...");
-            if (this.debugLevel >= LogUtil.Level.DEV.getDebugLevel()) {
-                e.printStackTrace();
+            for (Recipe recipe : item.getRecipes()) {
+                if (!(recipe instanceof Keyed)) {
+                    LogUtil.log(LogUtil.Level.DEV, "An internal error has occurred, the recipe registered on the " + item.getIdentifier() + " item does not implement the keyed interface!");
+                    continue;
+                }
+
+                recipes.put(((Keyed) recipe).getKey(), recipe);
             }
-            LogUtil.log(LogUtil.Level.INFO, "Configuration generation failed...");
-            return;
         }
 
-        LogUtil.log(LogUtil.Level.INFO, "Configuration generation complete!");
+        return recipes;
     }
 
     /**
-     * A method used to parse and cache abilities from yml files
-     *
-     * @param home  the home directory of all ability yml files
-     * @param cache the cache where loaded abilities will be registered to
+     * A util method used to queue the removal of recipes that were removed or changed and the addition of recipes that were added or changed as a single batch, recipes that did not change stay registered
      */
-    private void loadAbilities(@NotNull File home, @NotNull InnovativeCache cache) {
-        LogUtil.log(LogUtil.Level.INFO, "Starting ability initialization and parsing...");
+    private static void updateRecipes(@NotNull InnovativeCache cache, @NotNull Map<NamespacedKey, Recipe> oldRecipes, @NotNull Map<NamespacedKey, Recipe> newRecipes) {
+        List<NamespacedKey> removed = new ArrayList<>();
+        List<Recipe> added = new ArrayList<>();
+        int unchanged = 0;
+        int changed = 0;
 
-        int registered = 0;
-
-        for (File file : home.listFiles()) {
-            YamlConfiguration configuration = new YamlConfiguration();
+        for (Map.Entry<NamespacedKey, Recipe> entry : oldRecipes.entrySet()) {
+            Recipe recipe = newRecipes.get(entry.getKey());
 
-            try {
-                configuration.load(file);
-            } catch (IOException | InvalidConfigurationException e) {
-                LogUtil.log(LogUtil.Level.SEVERE, "A " + e.getClass().getSimpleName() + " occurred while loading " + file.getName() + " during ability initialization and parsing stage!");
-                if (this.getDebugLevel() >= LogUtil.Level.DEV.getDebugLevel()) {
-                    e.printStackTrace();
-                }
-                continue;
+            if (recipe == null || !RecipeUtil.isSimilar(entry.getValue(), recipe)) {
+                removed.add(entry.getKey());
             }
+        }
 
-            for (String key : configuration.getKeys(false)) {
-                if (!InnovativeItems.isPluginPremium() && registered >= ConfigManager.MAX_FREE_ABILITIES) {
-                    LogUtil.logUnblocked(LogUtil.Level.WARNING, "You have reached the maximum amount of abilities for the free version of the plugin! Skipping the ability identified as: " + key);
-                    continue;
-                }
+        for (Map.Entry<NamespacedKey, Recipe> entry : newRecipes.entrySet()) {
+            Recipe recipe = oldRecipes.get(entry.getKey());
 
-                ConfigurationSection section = configuration.getConfigurationSection(key);
+            if (recipe == null) {
+                added.add(entry.getValue());
+            } else if (RecipeUtil.isSimilar(recipe, entry.getValue())) {
+                unchanged++;
+            } else {
+                added.add(entry.getValue());
+                changed++; //changed recipes are both removed and added
+            }
+        }
 
-                if (section == null) {
-                    continue;
-                }
+        LogUtil.log(LogUtil.Level.INFO, "Updating crafting recipes, " + (added.size() - changed) + " added, " + changed + " changed, " + (removed.size() - changed) + " removed and " + unchanged + " unchanged!");
 
-                boolean register = AbilityParser.buildAbility(section, cache); //register ability, return false if something went wrong
+        RecipeBatcher recipeBatcher = cache.getRecipeBatcher();
+        recipeBatcher.beginBatch();
 
-                if (register && (!this.generateDefaultConfigs || !ConfigManager.DEFAULT_ABILITIES.contains(key))) { //if it was registered and not a default ability, count it
-                    registered++;
-                }
-            }
+        for (NamespacedKey key : removed) {
+            recipeBatcher.remove(key);
         }
 
-        LogUtil.log(LogUtil.Level.INFO, "Ability initialization and parsing complete!");
+        for (Recipe recipe : added) {
+            recipeBatcher.add(recipe);
+        }
+
+        recipeBatcher.endBatch();
     }
 
     /**
-     * A method used to parse and cache items from yml files
+     * A method used to reload only the elements in the provided ability and item files, applying just the definitions that were added, removed or changed (called off the main thread, the cache is swapped on the main thread)
      *
-     * @param home  the home directory of all item yml files
-     * @param cache the cache where loaded items will be registered to
+     * @param abilityFiles the ability files that were created, modified or deleted
+     * @param itemFiles the item files that were created, modified or deleted
      */
-    private void loadItems(@NotNull File home, @NotNull InnovativeCache cache) {
-        LogUtil.log(LogUtil.Level.INFO, "Starting item initialization and parsing...");
-
-        LinkedList<ItemNode> nodes = new LinkedList<>();
+    public void reloadChanged(@NotNull Collection<File> abilityFiles, @NotNull Collection<File> itemFiles) {
+        synchronized (this.reloadLock) {
+            long start = System.nanoTime();
+            InnovativeItems plugin = InnovativeItems.getInstance();
+            InnovativeCache cache = plugin.getItemCache();
 
-        for (File file : home.listFiles()) {
-            YamlConfiguration configuration = new YamlConfiguration();
+            Map<File, List<ConfigurationSection>> abilitySections = this.readChanged(abilityFiles, "ability");
+            Map<File, List<ConfigurationSection>> itemSections = this.readChanged(itemFiles, "item");
+            Set<String> changedAbilities = ConfigManager.diff(this.abilitySnapshot, abilitySections, cache);
+            Set<String> changedItems = ConfigManager.diff(this.itemSnapshot, itemSections, cache);
 
-            try {
-                configuration.load(file);
-            } catch (IOException | InvalidConfigurationException e) {
-                LogUtil.log(LogUtil.Level.WARNING, "A " + e.getClass().getSimpleName() + " occurred while loading " + file.getName() + " during item initialization and parsing stage!");
-                if (this.getDebugLevel() >= LogUtil.Level.DEV.getDebugLevel()) {
-                    e.printStackTrace();
-                }
-                continue;
+            if (changedAbilities.isEmpty() && changedItems.isEmpty()) {
+                return;
             }
 
-            for (String key : configuration.getKeys(false)) {
-                ConfigurationSection section = configuration.getConfigurationSection(key);
+            //changed abilities are parsed before anything is swapped, an ability that fails to parse keeps its previous definition
+            Map<String, Ability> parsedAbilities = new LinkedHashMap<>();
+            Set<String> removedAbilities = new LinkedHashSet<>(changedAbilities);
 
-                if (section == null) {
-                    continue;
-                }
+            boolean premium = InnovativeItems.isPluginPremium();
+            int registered = premium ? 0 : this.countFreeAbilities(cache, changedAbilities);
 
-                String name = section.getName();
+            for (List<ConfigurationSection> sections : abilitySections.values()) {
+                for (ConfigurationSection section : sections) {
+                    String key = section.getName();
 
-                if (cache.contains(name)) {
-                    LogUtil.log(LogUtil.Level.WARNING, "Element with the name of " + name + ", is already registered! Skipping item...");
-                    continue;
-                }
+                    if (!changedAbilities.contains(key)) {
+                        continue;
+                    }
 
-                nodes.add(new ItemNode(section));
-            }
-        }
+                    removedAbilities.remove(key);
 
-        for (ItemNode node : nodes) {
-            node.findDependantItems(cache, nodes);
-        }
+                    if (!premium && registered >= ConfigManager.MAX_FREE_ABILITIES) {
+                        LogUtil.logUnblocked(LogUtil.Level.WARNING, "You have reached the maximum amount of abilities for the free version of the plugin! Skipping the ability identified as: " + key);
+                        continue;
+                    }
 
-        while (!nodes.isEmpty()) {
-            Optional<ItemNode> current = nodes.stream().filter(node -> node.getDependantItems().size() == 0).findAny();
+                    Ability ability = AbilityParser.parseAbility(section);
 
-            if (!current.isPresent()) {
-                LogUtil.logUnblocked(LogUtil.Level.SEVERE, "A cycle has been found in the heap of custom items! You are not allowed to have two items that depend on each other or an item that depends on itself as that would cause an infinite loop!");
-                break;
-            }
+                    if (ability == null) {
+                        if (cache.getAbility(key) != null) {
+                            LogUtil.logUnblocked(LogUtil.Level.WARNING, "Failed to parse the changed ability identified as: " + key + ", keeping its previous definition!");
+                        }
+                        continue;
+                    }
 
-            ItemNode node = current.get();
+                    parsedAbilities.put(key, ability);
 
-            for (ItemNode parent : nodes) {
-                parent.getDependantItems().remove(node.getIdentifier());
+                    if (!this.generateDefaultConfigs || !ConfigManager.DEFAULT_ABILITIES.contains(key)) { //if it was parsed and not a default ability, count it
+                        registered++;
+                    }
+                }
             }
 
-            nodes.remove(node);
+            ConfigManager.apply(this.abilitySnapshot, abilitySections);
+            ConfigManager.apply(this.itemSnapshot, itemSections);
 
-            LogUtil.log(LogUtil.Level.NOISE, "Parsing item: " + node.getIdentifier());
+            //only abilities that are actually replaced or removed make the items using them be built again
+            Set<String> swappedAbilities = new LinkedHashSet<>(parsedAbilities.keySet());
+            swappedAbilities.addAll(removedAbilities);
 
-            CustomItem item = ItemParser.parseItem(node.getConfigurationSection(), node.getIdentifier());
+            //items hold their ability and recipe ingredient instances, so items using a changed element are built again as well
+            Set<String> rebuild = this.findDependents(cache, swappedAbilities, changedItems);
+            Set<String> removedItems = new LinkedHashSet<>(changedItems);
+            removedItems.removeAll(rebuild);
 
-            if (item != null) {
-                cache.registerItem(item);
-                LogUtil.log(LogUtil.Level.NOISE, "Registered item: " + node.getIdentifier());
-            } else {
-                LogUtil.log(LogUtil.Level.NOISE, "Failed to register item: " + node.getIdentifier());
+            if (swappedAbilities.isEmpty() && rebuild.isEmpty() && removedItems.isEmpty()) {
+                return;
             }
-        }
-
-        if (nodes.isEmpty()) { //always true unless cycle was found
-            LogUtil.log(LogUtil.Level.INFO, "Item initialization and parsing complete!");
-            return;
-        }
-
-        LogUtil.logUnblocked(LogUtil.Level.SEVERE, "As a cycle was detected all items will be loaded without custom crafting recipes!");
 
-        for (ItemNode node : nodes) {
-            CustomItem item = ItemParser.parseItem(node.getConfigurationSection(), node.getIdentifier(), false);
+            //the cache is read by the main thread, so it is only swapped there, the watcher waits so the reload lock covers the swap
+            try {
+                Bukkit.getScheduler().callSyncMethod(plugin, () -> {
+                    this.swapChanged(parsedAbilities, removedAbilities, rebuild, removedItems);
+                    return null;
+                }).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
 
-            if (item != null) {
-                cache.registerItem(item);
-                LogUtil.log(LogUtil.Level.NOISE, "Registered item: " + node.getIdentifier());
-            } else {
-                LogUtil.log(LogUtil.Level.NOISE, "Failed to register item: " + node.getIdentifier());
+                throw new IllegalStateException(e.getCause());
             }
+
+            LogUtil.logUnblocked(LogUtil.Level.INFO, "Hot reloaded " + swappedAbilities.size() + " abilities and " + (rebuild.size() + removedItems.size()) + " items from " + (abilityFiles.size() + itemFiles.size()) + " changed files in " + ConfigManager.toMillis(System.nanoTime() - start) + "ms!");
         }
+    }
 
+    /**
+     * A util method used to swap the parsed abilities and the items built from them into the cache (called on the main thread while the watcher holds the reload lock)
+     */
+    private void swapChanged(@NotNull Map<String, Ability> parsedAbilities, @NotNull Set<String> removedAbilities, @NotNull Set<String> rebuild, @NotNull Set<String> removedItems) {
+        InnovativeItems plugin = InnovativeItems.getInstance();
+        InnovativeCache cache = plugin.getItemCache();
+        AbilityTimerManager timerManager = plugin.getAbilityTimerManager();
+
+        //items are briefly missing from the cache while they are swapped, the garbage collector would delete them
+        GarbageCollector garbageCollector = plugin.getGarbageCollector();
+        garbageCollector.setEnabled(false);
+
+        try {
+            //timers whose ability keeps the same delay keep their schedule
+            for (String name : removedAbilities) {
+                cache.unregisterAbility(name);
+                timerManager.invalidate(name);
+            }
+
+            for (Ability ability : parsedAbilities.values()) {
+                cache.unregisterAbility(ability.getIdentifier());
+                timerManager.invalidate(ability.getIdentifier());
+                cache.registerAbility(ability);
+            }
+
+            //functions only used by the old abilities are forgotten, so repeated reloads do not grow the interner
+            plugin.getFunctionManager().getInterner().retain(cache.getAbilities());
+            timerManager.prune();
+
+            //recipes of the items built again are removed and added in a single batch
+            RecipeBatcher recipeBatcher = cache.getRecipeBatcher();
+            recipeBatcher.beginBatch();
+
+            try {
+                for (String name : removedItems) {
+                    cache.unregisterItem(name);
+                }
+
+                Map<String, ItemNode> nodes = new LinkedHashMap<>();
+
+                for (String name : rebuild) {
+                    nodes.put(name, new ItemNode(this.itemSnapshot.getSection(name), nodes.size()));
+                }
+
+                for (ItemNode node : nodes.values()) {
+                    node.findDependantItems(cache, nodes);
+                }
+
+                List<ItemNode> blocked = new ArrayList<>();
+
+                //ingredients are swapped before the items using them, so a rebuilt item never holds a stale ingredient
+                for (List<ItemNode> level : ConfigManager.sortItems(nodes, blocked)) {
+                    for (ItemNode node : level) {
+                        ConfigManager.replaceItem(cache, node, ItemParser.parseItem(node.getConfigurationSection(), node.getIdentifier()));
+                    }
+                }
+
+                if (!blocked.isEmpty()) {
+                    LogUtil.logUnblocked(LogUtil.Level.SEVERE, "A cycle has been found in the heap of custom items! The " + blocked.size() + " items in or depending on it will be loaded without custom crafting recipes! Cycles found: " + ConfigManager.findCycles(blocked, nodes));
+
+                    for (ItemNode node : blocked) {
+                        ConfigManager.replaceItem(cache, node, ItemParser.parseItem(node.getConfigurationSection(), node.getIdentifier(), false));
+                    }
+                }
+            } finally {
+                recipeBatcher.endBatch();
+            }
+
+            //item sets hold ability instances and are small, so they are always read again
+            ForkJoinPool pool = new ForkJoinPool(1);
+            cache.clearItemSets();
+
+            try {
+                this.loadItemSets(new File(plugin.getDataFolder(), "sets"), cache, pool);
+            } finally {
+                pool.shutdown();
+            }
+
+            plugin.getItemSetTracker().reload();
+            plugin.getEquipmentIndex().rescanAll();
+            plugin.getMobEquipmentIndex().rescanAll();
+
+            if (!parsedAbilities.isEmpty() || !removedAbilities.isEmpty()) {
+                plugin.getTriggerRateLimiter().clearCache(); //buckets are keyed by the old ability instances
+            }
+        } finally {
+            garbageCollector.setEnabled(true);
+        }
+
+        if (!rebuild.isEmpty() || !removedItems.isEmpty()) {
+            garbageCollector.cleanAllPlayerInventories(true);
+        }
+    }
+
+    /**
+     * A util method that returns the amount of registered abilities that count towards the limit of the free version, leaving out the ones about to be replaced
+     */
+    private int countFreeAbilities(@NotNull InnovativeCache cache, @NotNull Set<String> replaced) {
+        int registered = 0;
+
+        for (Ability ability : cache.getAbilities()) {
+            String name = ability.getIdentifier();
+
+            if (!replaced.contains(name) && (!this.generateDefaultConfigs || !ConfigManager.DEFAULT_ABILITIES.contains(name))) {
+                registered++;
+            }
+        }
+
+        return registered;
+    }
+
+    /**
+     * A util method used to read changed files, deleted files have no sections and files that fail to load are left out so a half written file never removes anything
+     */
+    @NotNull
+    private Map<File, List<ConfigurationSection>> readChanged(@NotNull Collection<File> files, @NotNull String stage) {
+        Map<File, List<ConfigurationSection>> changed = new LinkedHashMap<>();
+
+        for (File file : files) {
+            if (!file.exists()) {
+                changed.put(file, Collections.emptyList());
+                continue;
+            }
+
+            YamlConfiguration configuration = this.loadFile(file, stage, LogUtil.Level.WARNING);
+
+            if (configuration == null) {
+                continue;
+            }
+
+            List<ConfigurationSection> sections = new ArrayList<>();
+
+            for (String key : configuration.getKeys(false)) {
+                ConfigurationSection section = configuration.getConfigurationSection(key);
+
+                if (section != null) {
+                    sections.add(section);
+                }
+            }
+
+            changed.put(file, sections);
+        }
+
+        return changed;
+    }
+
+    /**
+     * A util method that returns the names of every element that was added, removed or changed in the read files, duplicate names are dropped from the read sections
+     */
+    @NotNull
+    private static Set<String> diff(@NotNull ConfigSnapshot snapshot, @NotNull Map<File, List<ConfigurationSection>> files, @NotNull InnovativeCache cache) {
+        Set<String> changed = new LinkedHashSet<>();
+        Set<String> seen = new HashSet<>();
+
+        for (Map.Entry<File, List<ConfigurationSection>> entry : files.entrySet()) {
+            Iterator<ConfigurationSection> iterator = entry.getValue().iterator();
+
+            while (iterator.hasNext()) {
+                ConfigurationSection section = iterator.next();
+                String name = section.getName();
+                File owner = snapshot.getFile(name);
+
+                //the name belongs to a file that was not changed or to an element of another type
+                if (!seen.add(name) || (owner != null && !files.containsKey(owner)) || (owner == null && cache.contains(name))) {
+                    LogUtil.log(LogUtil.Level.WARNING, "Element with the name of " + name + ", is already registered! Skipping...");
+                    iterator.remove();
+                    continue;
+                }
+
+                if (snapshot.isChanged(section)) {
+                    changed.add(name);
+                }
+            }
+
+            for (String name : snapshot.getNames(entry.getKey())) {
+                if (!seen.contains(name)) {
+                    changed.add(name); //removed from the file
+                }
+            }
+        }
+
+        //a name that only moved between two read files is removed by one and added by the other
+        for (Map.Entry<File, List<ConfigurationSection>> entry : files.entrySet()) {
+            for (ConfigurationSection section : entry.getValue()) {
+                if (!entry.getKey().equals(snapshot.getFile(section.getName()))) {
+                    changed.add(section.getName());
+                }
+            }
+        }
+
+        return changed;
+    }
+
+    /**
+     * A util method used to replace the sections of the read files in a snapshot
+     */
+    private static void apply(@NotNull ConfigSnapshot snapshot, @NotNull Map<File, List<ConfigurationSection>> files) {
+        //every file is forgotten first so a name that moved between two read files is not forgotten after being recorded
+        for (File file : files.keySet()) {
+            snapshot.forget(file);
+        }
+
+        for (Map.Entry<File, List<ConfigurationSection>> entry : files.entrySet()) {
+            for (ConfigurationSection section : entry.getValue()) {
+                snapshot.record(entry.getKey(), section);
+            }
+        }
+    }
+
+    /**
+     * A util method that returns the live items that must be built again, in config order: changed items that still exist, items using a changed ability and every item whose recipes depend on one of them or on a removed item
+     */
+    @NotNull
+    private Set<String> findDependents(@NotNull InnovativeCache cache, @NotNull Set<String> changedAbilities, @NotNull Set<String> changedItems) {
+        Map<String, ItemNode> all = new LinkedHashMap<>();
+
+        for (ConfigurationSection section : this.itemSnapshot.getSections()) {
+            all.put(section.getName(), new ItemNode(section, all.size()));
+        }
+
+        //removed items are no longer in the snapshot, but the items whose recipes used them still have to be built again
+        Set<String> identifiers = new HashSet<>(all.keySet());
+        identifiers.addAll(changedItems);
+
+        Map<String, List<String>> dependents = new HashMap<>();
+        Deque<String> queue = new ArrayDeque<>(changedItems);
+
+        for (ItemNode node : all.values()) {
+            node.findDependantItems(cache, identifiers);
+
+            for (String dependency : node.getDependantItems()) {
+                dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(node.getIdentifier());
+            }
+
+            if (ConfigManager.usesAbility(node.getConfigurationSection(), changedAbilities)) {
+                queue.add(node.getIdentifier());
+            }
+        }
+
+        Set<String> found = new HashSet<>();
+
+        while (!queue.isEmpty()) {
+            String name = queue.poll();
+
+            if (!found.add(name)) {
+                continue;
+            }
+
+            queue.addAll(dependents.getOrDefault(name, Collections.emptyList()));
+        }
+
+        Set<String> rebuild = new LinkedHashSet<>();
+
+        for (String name : all.keySet()) {
+            if (found.contains(name)) {
+                rebuild.add(name);
+            }
+        }
+
+        return rebuild;
+    }
+
+    /**
+     * A util method that returns true if an item section references one of the provided abilities by name
+     */
+    private static boolean usesAbility(@NotNull ConfigurationSection section, @NotNull Set<String> abilities) {
+        if (abilities.isEmpty()) {
+            return false;
+        }
+
+        if (section.isString("ability")) {
+            return abilities.contains(section.getString("ability"));
+        }
+
+        if (section.isList("ability")) {
+            for (String ability : section.getStringList("ability")) {
+                if (abilities.contains(ability)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * A startup method to start parsing all config files
+     */
+    public void init() {
+        LogUtil.logUnblocked(LogUtil.Level.INFO, "Starting basic plugin initialization...");
+
+        InnovativeItems plugin = InnovativeItems.getInstance();
+
+        LogUtil.log(LogUtil.Level.INFO, "Starting directory initialization...");
+
+        File home = plugin.getDataFolder();
+        File items = new File(home, "items");
+        File abilities = new File(home, "abilities");
+        File sets = new File(home, "sets");
+
+        if (!home.exists()) {
+            home.mkdir();
+        }
+
+        if (!items.exists()) {
+            items.mkdir();
+        }
+
+        if (!abilities.exists()) {
+            abilities.mkdir();
+        }
+
+        if (!sets.exists()) {
+            sets.mkdir();
+        }
+
+        LogUtil.log(LogUtil.Level.INFO, "Directory initialization complete!");
+
+        if (this.generateDefaultConfigs) {
+            this.generateDefaultConfigs(plugin, abilities, items, sets);
+        }
+
+        InnovativeCache cache = plugin.getItemCache();
+
+        //files are read and sections are parsed on a fork-join pool, registration always happens on this thread in config order
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+
+        this.abilitySnapshot.clear();
+        this.itemSnapshot.clear();
+        plugin.getFunctionManager().getInterner().clear();
+
+        cache.getRecipeBatcher().beginBatch(); //every recipe is added in one pass once all items are loaded
+
+        try {
+            this.loadAbilities(abilities, cache, pool);
+
+            this.loadItems(items, cache, pool);
+
+            this.loadItemSets(sets, cache, pool);
+        } finally {
+            pool.shutdown();
+            cache.getRecipeBatcher().endBatch();
+        }
+
+        plugin.getFunctionManager().getInterner().logReport();
+
+        this.updateWatcher(abilities, items);
+
+        LogUtil.logUnblocked(LogUtil.Level.INFO, "Basic plugin initialization complete!");
+    }
+
+    /**
+     * A util method used to start or stop the config watcher to match the hot reload option
+     */
+    private void updateWatcher(@NotNull File abilities, @NotNull File items) {
+        if (!this.hotReload) {
+            this.shutdown();
+            return;
+        }
+
+        if (this.watcher != null) {
+            return;
+        }
+
+        try {
+            this.watcher = new ConfigWatcher(this, abilities, items);
+        } catch (IOException e) {
+            LogUtil.log(LogUtil.Level.WARNING, "An error occurred while trying to watch the config folders, changed files will not be hot reloaded!");
+            if (this.getDebugLevel() >= LogUtil.Level.DEV.getDebugLevel()) {
+                e.printStackTrace();
+            }
+            return;
+        }
+
+        this.watcher.start();
+        LogUtil.log(LogUtil.Level.INFO, "Watching the ability and item folders for changes!");
+    }
+
+    /**
+     * A method used to generate the default configuration files
+     */
+    private void generateDefaultConfigs(@NotNull InnovativeItems plugin, @NotNull File abilities, @NotNull File items, @NotNull File sets) {
+        LogUtil.log(LogUtil.Level.INFO, "Starting default configuration generation...");
+        File defaultAbilities = new File(abilities, "default-abilities.yml");
+        File defaultItems = new File(items, "default-items.yml");
+        File defaultSets = new File(sets, "default-sets.yml");
+
+        try {
+            if (!defaultAbilities.exists()) {
+                defaultAbilities.createNewFile();
+                Files.copy(plugin.getResource("default-abilities.yml"), defaultAbilities.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                LogUtil.log(LogUtil.Level.INFO, "Created a new default abilities file!");
+            }
+
+            if (!defaultItems.exists()) {
+                defaultItems.createNewFile();
+                Files.copy(plugin.getResource("default-items.yml"), defaultItems.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                LogUtil.log(LogUtil.Level.INFO, "Created a new default items file!");
+            }
+
+            if (!defaultSets.exists()) {
+                defaultSets.createNewFile();
+                Files.copy(plugin.getResource("default-sets.yml"), defaultSets.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                LogUtil.log(LogUtil.Level.INFO, "Created a new default item sets file!");
+            }
+        } catch (IOException e) {
+            LogUtil.log(LogUtil.Level.SEVERE, "There was an error trying to write a new file to disk...");
+            if (this.debugLevel >= LogUtil.Level.DEV.getDebugLevel()) {
+                e.printStackTrace();
+            }
+            LogUtil.log(LogUtil.Level.INFO, "Configuration generation failed...");
+            return;
+        }
+
+        LogUtil.log(LogUtil.Level.INFO, "Configuration generation complete!");
+    }
+
+    /**
+     * A method used to parse and cache abilities from yml files
+     *
+     * @param home  the home directory of all ability yml files
+     * @param cache the cache where loaded abilities will be registered to
+     * @param pool  the pool used to read files and parse sections
+     */
+    private void loadAbilities(@NotNull File home, @NotNull InnovativeCache cache, @NotNull ForkJoinPool pool) {
+        LogUtil.log(LogUtil.Level.INFO, "Starting ability initialization and parsing...");
+
+        long start = System.nanoTime();
+        Map<File, YamlConfiguration> configurations = this.loadFiles(home, pool, "ability", LogUtil.Level.SEVERE);
+        long read = System.nanoTime();
+
+        List<ConfigurationSection> sections = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+
+        for (Map.Entry<File, YamlConfiguration> entry : configurations.entrySet()) {
+            YamlConfiguration configuration = entry.getValue();
+
+            for (String key : configuration.getKeys(false)) {
+                ConfigurationSection section = configuration.getConfigurationSection(key);
+
+                if (section == null) {
+                    continue;
+                }
+
+                //duplicates are skipped before parsing so their triggers are never initialized
+                if (cache.contains(key) || !names.add(key)) {
+                    LogUtil.log(LogUtil.Level.WARNING, "Element with the name of " + key + ", is already registered! Skipping ability...");
+                    continue;
+                }
+
+                sections.add(section);
+                this.abilitySnapshot.record(entry.getKey(), section);
+            }
+        }
+
+        long parsed;
+        int registered = 0;
+
+        if (InnovativeItems.isPluginPremium()) {
+            List<Ability> abilities = ConfigManager.map(pool, sections, AbilityParser::parseAbility);
+            parsed = System.nanoTime();
+
+            for (Ability ability : abilities) {
+                if (ability != null) {
+                    cache.registerAbility(ability);
+                    registered++;
+                }
+            }
+        } else {
+            //the free version stops parsing at its limit, so its few abilities are parsed in order on this thread
+            for (ConfigurationSection section : sections) {
+                String key = section.getName();
+
+                if (registered >= ConfigManager.MAX_FREE_ABILITIES) {
+                    LogUtil.logUnblocked(LogUtil.Level.WARNING, "You have reached the maximum amount of abilities for the free version of the plugin! Skipping the ability identified as: " + key);
+                    continue;
+                }
+
+                boolean register = AbilityParser.buildAbility(section, cache); //register ability, return false if something went wrong
+
+                if (register && (!this.generateDefaultConfigs || !ConfigManager.DEFAULT_ABILITIES.contains(key))) { //if it was registered and not a default ability, count it
+                    registered++;
+                }
+            }
+            parsed = System.nanoTime();
+        }
+
+        ConfigManager.logTimings("abilities", registered, configurations.size(), start, read, parsed, System.nanoTime());
+        LogUtil.log(LogUtil.Level.INFO, "Ability initialization and parsing complete!");
+    }
+
+    /**
+     * A method used to parse and cache items from yml files
+     *
+     * @param home  the home directory of all item yml files
+     * @param cache the cache where loaded items will be registered to
+     * @param pool  the pool used to read files and parse sections
+     */
+    private void loadItems(@NotNull File home, @NotNull InnovativeCache cache, @NotNull ForkJoinPool pool) {
+        LogUtil.log(LogUtil.Level.INFO, "Starting item initialization and parsing...");
+
+        long start = System.nanoTime();
+        Map<File, YamlConfiguration> configurations = this.loadFiles(home, pool, "item", LogUtil.Level.WARNING);
+        Map<File, byte[]> hashes = this.hashFiles(configurations.keySet(), pool);
+        long read = System.nanoTime();
+        long parsing = 0;
+        int registered = 0;
+
+        Map<String, ItemNode> nodes = new LinkedHashMap<>(); //preserve config order
+
+        for (Map.Entry<File, YamlConfiguration> entry : configurations.entrySet()) {
+            YamlConfiguration configuration = entry.getValue();
+
+            for (String key : configuration.getKeys(false)) {
+                ConfigurationSection section = configuration.getConfigurationSection(key);
+
+                if (section == null) {
+                    continue;
+                }
+
+                String name = section.getName();
+
+                if (cache.contains(name) || nodes.containsKey(name)) {
+                    LogUtil.log(LogUtil.Level.WARNING, "Element with the name of " + name + ", is already registered! Skipping item...");
+                    continue;
+                }
+
+                nodes.put(name, new ItemNode(section, nodes.size()));
+                this.itemSnapshot.record(entry.getKey(), section);
+            }
+        }
+
+        for (ItemNode node : nodes.values()) {
+            node.findDependantItems(cache, nodes);
+        }
+
+        List<ItemNode> blocked = new ArrayList<>();
+        List<List<ItemNode>> levels = ConfigManager.sortItems(nodes, blocked);
+
+        if (!blocked.isEmpty()) {
+            LogUtil.logUnblocked(LogUtil.Level.SEVERE, "A cycle has been found in the heap of custom items! You are not allowed to have two items that depend on each other or an item that depends on itself as that would cause an infinite loop! Cycles found: " + ConfigManager.findCycles(blocked, nodes));
+        }
+
+        //every item in a level only depends on items in earlier levels, so a level is parsed at once and then registered in config order
+        for (List<ItemNode> level : levels) {
+            long wave = System.nanoTime();
+            List<CustomItem> items = ConfigManager.map(pool, level, node -> {
+                LogUtil.log(LogUtil.Level.NOISE, "Parsing item: " + node.getIdentifier());
+                return this.parseItem(node, true, hashes);
+            });
+            parsing += System.nanoTime() - wave;
+
+            for (int i = 0; i < level.size(); i++) {
+                registered += ConfigManager.registerItem(cache, level.get(i), items.get(i));
+            }
+        }
+
+        if (!blocked.isEmpty()) {
+            LogUtil.logUnblocked(LogUtil.Level.SEVERE, "As a cycle was detected the " + blocked.size() + " items in or depending on a cycle will be loaded without custom crafting recipes!");
+
+            long wave = System.nanoTime();
+            List<CustomItem> items = ConfigManager.map(pool, blocked, node -> this.parseItem(node, false, hashes));
+            parsing += System.nanoTime() - wave;
+
+            for (int i = 0; i < blocked.size(); i++) {
+                registered += ConfigManager.registerItem(cache, blocked.get(i), items.get(i));
+            }
+        }
+
+        long end = System.nanoTime();
+        ConfigManager.logTimings("items", registered, configurations.size(), start, read, read + parsing, end);
+
+        if (this.lazyItemStacks) {
+            long built = cache.getItems().stream().filter(CustomItem::isMaterialized).count();
+            LogUtil.log(LogUtil.Level.INFO, "Built " + built + " of " + registered + " item stacks while parsing, the rest are built the first time they are needed!");
+        }
+
+        if (this.useCompiledSnapshot) {
+            LogUtil.log(LogUtil.Level.INFO, "Read " + this.compiledSnapshot.getHits() + " of " + registered + " item stacks from the compiled snapshot!");
+            this.compiledSnapshot.save();
+        } else {
+            LogUtil.log(LogUtil.Level.INFO, "The compiled snapshot is disabled, every item stack was built from its config!");
+        }
         LogUtil.log(LogUtil.Level.INFO, "Item initialization and parsing complete!");
     }
 
+    /**
+     * A util method that returns the content hash of every item file, empty if the compiled snapshot is disabled
+     */
+    @NotNull
+    private Map<File, byte[]> hashFiles(@NotNull Collection<File> files, @NotNull ForkJoinPool pool) {
+        if (!this.useCompiledSnapshot) {
+            return Collections.emptyMap();
+        }
+
+        this.compiledSnapshot.load();
+
+        List<File> list = new ArrayList<>(files);
+        List<byte[]> hashes = ConfigManager.map(pool, list, CompiledSnapshot::hash);
+        Map<File, byte[]> hashed = new HashMap<>();
+
+        for (int i = 0; i < list.size(); i++) {
+            if (hashes.get(i) != null) {
+                hashed.put(list.get(i), hashes.get(i));
+            }
+        }
+
+        return hashed;
+    }
+
+    /**
+     * A util method used to parse an item, reading its itemstack from the compiled snapshot when its file has not changed since the snapshot was written (safe to call async)
+     */
+    @Nullable
+    private CustomItem parseItem(@NotNull ItemNode node, boolean parseRecipe, @NotNull Map<File, byte[]> hashes) {
+        String name = node.getIdentifier();
+        File source = this.itemSnapshot.getFile(name);
+        byte[] hash = source != null ? hashes.get(source) : null;
+
+        //lazy itemstacks are not built at all while parsing, so reading them from the snapshot would only cost time and memory
+        if (hash == null || !ItemParser.isBuiltEagerly(node.getConfigurationSection(), parseRecipe)) {
+            return ItemParser.parseItem(node.getConfigurationSection(), name, parseRecipe);
+        }
+
+        ItemStack compiled = this.compiledSnapshot.getItem(source, hash, name);
+        CustomItem item = ItemParser.parseItem(node.getConfigurationSection(), name, parseRecipe, compiled);
 
+        if (item != null && compiled == null) {
+            this.compiledSnapshot.putItem(source, hash, name, item.getItemStack());
+        }
+
+        return item;
+    }
+
+    /**
+     * A method used to parse and cache item sets from yml files (must be called after items are loaded)
+     *
+     * @param home  the home directory of all item set yml files
+     * @param cache the cache where loaded item sets will be registered to
+     * @param pool  the pool used to read files
+     */
+    private void loadItemSets(@NotNull File home, @NotNull InnovativeCache cache, @NotNull ForkJoinPool pool) {
+        LogUtil.log(LogUtil.Level.INFO, "Starting item set initialization and parsing...");
+
+        long start = System.nanoTime();
+        Map<File, YamlConfiguration> configurations = this.loadFiles(home, pool, "item set", LogUtil.Level.WARNING);
+        long read = System.nanoTime();
+        int registered = 0;
+
+        for (YamlConfiguration configuration : configurations.values()) {
+            for (String key : configuration.getKeys(false)) {
+                ConfigurationSection section = configuration.getConfigurationSection(key);
+
+                if (section == null) {
+                    continue;
+                }
+
+                ItemSet set = ItemSetParser.parseItemSet(section, key);
+
+                if (set != null) {
+                    cache.registerItemSet(set);
+                    registered++;
+                    LogUtil.log(LogUtil.Level.NOISE, "Registered item set: " + key);
+                }
+            }
+        }
+
+        long end = System.nanoTime();
+        ConfigManager.logTimings("item sets", registered, configurations.size(), start, read, end, end);
+        LogUtil.log(LogUtil.Level.INFO, "Item set initialization and parsing complete!");
+    }
+
+    /**
+     * A util method used to read every yml file in a directory on the provided pool, files that fail to load are logged and left out
+     */
+    @NotNull
+    private Map<File, YamlConfiguration> loadFiles(@NotNull File home, @NotNull ForkJoinPool pool, @NotNull String stage, @NotNull LogUtil.Level level) {
+        File[] files = home.listFiles();
+
+        if (files == null) {
+            return Collections.emptyMap();
+        }
+
+        List<File> list = Arrays.asList(files);
+        List<YamlConfiguration> loaded = ConfigManager.map(pool, list, file -> this.loadFile(file, stage, level));
+        Map<File, YamlConfiguration> configurations = new LinkedHashMap<>(); //preserve file order
+
+        for (int i = 0; i < list.size(); i++) {
+            if (loaded.get(i) != null) {
+                configurations.put(list.get(i), loaded.get(i));
+            }
+        }
+
+        return configurations;
+    }
+
+    /**
+     * A util method used to read a single yml file, returns null and logs the error if it could not be loaded
+     */
+    @Nullable
+    private YamlConfiguration loadFile(@NotNull File file, @NotNull String stage, @NotNull LogUtil.Level level) {
+        YamlConfiguration configuration = new YamlConfiguration();
+
+        try {
+            configuration.load(file);
+        } catch (IOException | InvalidConfigurationException e) {
+            LogUtil.log(level, "A " + e.getClass().getSimpleName() + " occurred while loading " + file.getName() + " during " + stage + " initialization and parsing stage!");
+            if (this.getDebugLevel() >= LogUtil.Level.DEV.getDebugLevel()) {
+                e.printStackTrace();
+            }
+            return null;
+        }
+
+        return configuration;
+    }
+
+    /**
+     * A util method used to apply a function to every element of a list on the provided pool, returning the results in the order of the list
+     */
+    @NotNull
+    private static <T, R> List<R> map(@NotNull ForkJoinPool pool, @NotNull List<T> elements, @NotNull Function<T, R> function) {
+        try {
+            return pool.submit(() -> elements.parallelStream().map(function).collect(Collectors.toList())).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The config loading pool was interrupted!", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * A util method used to sort items into dependency levels with kahn's algorithm, items that can never be reached because of a cycle are added to blocked in config order
+     */
+    @NotNull
+    private static List<List<ItemNode>> sortItems(@NotNull Map<String, ItemNode> nodes, @NotNull List<ItemNode> blocked) {
+        Map<String, List<ItemNode>> dependents = new HashMap<>();
+        Map<ItemNode, Integer> unresolved = new HashMap<>();
+        List<ItemNode> level = new ArrayList<>();
+
+        for (ItemNode node : nodes.values()) {
+            for (String dependency : node.getDependantItems()) {
+                dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(node);
+            }
+
+            unresolved.put(node, node.getDependantItems().size());
+
+            if (node.getDependantItems().isEmpty()) {
+                level.add(node);
+            }
+        }
+
+        List<List<ItemNode>> levels = new ArrayList<>();
+
+        while (!level.isEmpty()) {
+            levels.add(level);
+            List<ItemNode> next = new ArrayList<>();
+
+            for (ItemNode node : level) {
+                for (ItemNode dependent : dependents.getOrDefault(node.getIdentifier(), Collections.emptyList())) {
+                    if (unresolved.merge(dependent, -1, Integer::sum) == 0) {
+                        next.add(dependent);
+                    }
+                }
+            }
+
+            next.sort(Comparator.comparingInt(ItemNode::getOrder));
+            level = next;
+        }
+
+        for (ItemNode node : nodes.values()) {
+            if (unresolved.get(node) > 0) {
+                blocked.add(node);
+            }
+        }
+
+        return levels;
+    }
+
+    /**
+     * A util method used to describe every cycle among the blocked items (the strongly connected components found with tarjan's algorithm)
+     */
+    @NotNull
+    private static String findCycles(@NotNull List<ItemNode> blocked, @NotNull Map<String, ItemNode> nodes) {
+        Map<ItemNode, Integer> indices = new HashMap<>();
+        Map<ItemNode, Integer> lowLinks = new HashMap<>();
+        Deque<ItemNode> stack = new ArrayDeque<>();
+        Set<ItemNode> onStack = new HashSet<>();
+        List<String> cycles = new ArrayList<>();
+
+        for (ItemNode node : blocked) {
+            if (!indices.containsKey(node)) {
+                ConfigManager.connect(node, nodes, indices, lowLinks, stack, onStack, cycles);
+            }
+        }
+
+        return String.join(" ", cycles);
+    }
+
+    /**
+     * A util method used to visit a single item during tarjan's algorithm
+     */
+    private static void connect(@NotNull ItemNode node, @NotNull Map<String, ItemNode> nodes, @NotNull Map<ItemNode, Integer> indices, @NotNull Map<ItemNode, Integer> lowLinks, @NotNull Deque<ItemNode> stack, @NotNull Set<ItemNode> onStack, @NotNull List<String> cycles) {
+        int index = indices.size();
+        indices.put(node, index);
+        lowLinks.put(node, index);
+        stack.push(node);
+        onStack.add(node);
+
+        for (String dependency : node.getDependantItems()) {
+            ItemNode next = nodes.get(dependency);
+
+            if (!indices.containsKey(next)) {
+                ConfigManager.connect(next, nodes, indices, lowLinks, stack, onStack, cycles);
+                lowLinks.put(node, Math.min(lowLinks.get(node), lowLinks.get(next)));
+            } else if (onStack.contains(next)) {
+                lowLinks.put(node, Math.min(lowLinks.get(node), indices.get(next)));
+            }
+        }
+
+        if (!lowLinks.get(node).equals(indices.get(node))) {
+            return;
+        }
+
+        List<String> component = new ArrayList<>();
+        ItemNode member;
+
+        do {
+            member = stack.pop();
+            onStack.remove(member);
+            component.add(member.getIdentifier());
+        } while (member != node);
+
+        //a single item is only a cycle when it depends on itself, otherwise it is just waiting on one
+        if (component.size() > 1 || node.getDependantItems().contains(node.getIdentifier())) {
+            Collections.reverse(component);
+            cycles.add("[" + String.join(", ", component) + "]");
+        }
+    }
+
+    /**
+     * A util method used to register a parsed item, returns one if it was registered
+     */
+    private static int registerItem(@NotNull InnovativeCache cache, @NotNull ItemNode node, @Nullable CustomItem item) {
+        if (item == null) {
+            LogUtil.log(LogUtil.Level.NOISE, "Failed to register item: " + node.getIdentifier());
+            return 0;
+        }
+
+        cache.registerItem(item);
+        LogUtil.log(LogUtil.Level.NOISE, "Registered item: " + node.getIdentifier());
+        return 1;
+    }
+
+    /**
+     * A util method used to replace a registered item with its rebuilt definition, the previous definition is kept if the item failed to parse
+     */
+    private static void replaceItem(@NotNull InnovativeCache cache, @NotNull ItemNode node, @Nullable CustomItem item) {
+        String name = node.getIdentifier();
+
+        if (item == null) {
+            if (cache.getItem(name) != null) {
+                LogUtil.logUnblocked(LogUtil.Level.WARNING, "Failed to parse the changed item identified as: " + name + ", keeping its previous definition!");
+            }
+            return;
+        }
+
+        cache.unregisterItem(name);
+        cache.registerItem(item);
+        LogUtil.log(LogUtil.Level.NOISE, "Registered item: " + name);
+    }
+
+    /**
+     * A util method used to log how long each phase of loading a type of element took
+     */
+    private static void logTimings(@NotNull String type, int registered, int files, long start, long read, long parsed, long end) {
+        LogUtil.log(LogUtil.Level.INFO, "Loaded " + registered + " " + type + " from " + files + " files in " + ConfigManager.toMillis(end - start) + "ms (read: " + ConfigManager.toMillis(read - start) + "ms, parse: " + ConfigManager.toMillis(parsed - read) + "ms, register: " + ConfigManager.toMillis(end - parsed) + "ms)");
+    }
+
+    /**
+     * A util method used to convert nanoseconds to milliseconds with two decimal places
+     */
+    @NotNull
+    private static String toMillis(long nanos) {
+        return String.format("%.2f", nanos / 1_000_000D);
+    }
 
     /**
      * A class used to read but not parse items that contain recipes to get a snapshot of what they contain
@@ -629,14 +1755,25 @@ public final class ConfigManager {
     private static final class ItemNode {
         private final ConfigurationSection section;
         private final String identifier;
+        private final int order;
         private Set<String> dependantItems;
 
-        public ItemNode(@NotNull ConfigurationSection section) {
+        public ItemNode(@NotNull ConfigurationSection section, int order) {
             this.section = section;
             this.identifier = section.getName();
+            this.order = order;
             this.dependantItems = null;
         }
 
+        /**
+         * Method used to get the position of the item in the config files
+         *
+         * @return the position of the item in the config files
+         */
+        public int getOrder() {
+            return this.order;
+        }
+
         /**
          * Method used to get the configuration section that this reader is reading
          *
@@ -670,7 +1807,14 @@ public final class ConfigManager {
         /**
          * A method used to calculate and set the getDependantItems method to @NotNull
          */
-        public void findDependantItems(@NotNull InnovativeCache cache, @NotNull LinkedList<ItemNode> nodes) {
+        public void findDependantItems(@NotNull InnovativeCache cache, @NotNull Map<String, ItemNode> nodes) {
+            this.findDependantItems(cache, nodes.keySet());
+        }
+
+        /**
+         * A method used to calculate and set the getDependantItems method to @NotNull, only the provided item identifiers are counted as dependencies
+         */
+        public void findDependantItems(@NotNull InnovativeCache cache, @NotNull Set<String> identifiers) {
             Set<String> dependantItems = new HashSet<>();
 
             if (!this.section.isConfigurationSection("recipes")) {
@@ -725,7 +1869,8 @@ public final class ConfigManager {
 
                     String rawId = type == RecipeType.SHAPED ? key.split(":")[1] : key;
 
-                    if (cache.getItem(rawId) != null || nodes.stream().anyMatch(node -> node.getIdentifier().equals(rawId))) {
+                    //items that are already registered are not waited on, only items that are still being loaded
+                    if (identifiers.contains(rawId)) {
                         dependantItems.add(rawId); //items are prioritized in parsing when an assert is not present so this a-ok
                     }
                 }
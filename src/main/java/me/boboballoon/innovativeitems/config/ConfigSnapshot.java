@@ -0,0 +1,138 @@
+package me.boboballoon.innovativeitems.config;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A class that represents the live config sections of one type of element and the file each one was loaded from, used to find what changed when a single file is loaded again
+ */
+public final class ConfigSnapshot {
+    private final Map<File, Set<String>> files;
+    private final Map<String, File> owners;
+    private final Map<String, ConfigurationSection> sections;
+    private final Map<String, Map<String, Object>> fingerprints;
+
+    public ConfigSnapshot() {
+        this.files = new HashMap<>();
+        this.owners = new HashMap<>();
+        this.sections = new LinkedHashMap<>(); //preserve order
+        this.fingerprints = new HashMap<>();
+    }
+
+    /**
+     * A method used to record a section that was loaded from a file
+     *
+     * @param file the file the section was loaded from
+     * @param section the section
+     */
+    public void record(@NotNull File file, @NotNull ConfigurationSection section) {
+        String name = section.getName();
+        this.files.computeIfAbsent(file, key -> new HashSet<>()).add(name);
+        this.owners.put(name, file);
+        this.sections.put(name, section);
+        this.fingerprints.put(name, ConfigSnapshot.fingerprint(section));
+    }
+
+    /**
+     * A method used to forget every section that was loaded from a file
+     *
+     * @param file the file
+     */
+    public void forget(@NotNull File file) {
+        Set<String> names = this.files.remove(file);
+
+        if (names == null) {
+            return;
+        }
+
+        for (String name : names) {
+            this.owners.remove(name);
+            this.sections.remove(name);
+            this.fingerprints.remove(name);
+        }
+    }
+
+    /**
+     * A method that returns the names of every section that was loaded from a file
+     *
+     * @param file the file
+     * @return the names of every section that was loaded from the file
+     */
+    @NotNull
+    public Set<String> getNames(@NotNull File file) {
+        return Collections.unmodifiableSet(this.files.getOrDefault(file, Collections.emptySet()));
+    }
+
+    /**
+     * A method that returns the file an element was loaded from
+     *
+     * @param name the name of the element
+     * @return the file (null if no section with the name was loaded)
+     */
+    @Nullable
+    public File getFile(@NotNull String name) {
+        return this.owners.get(name);
+    }
+
+    /**
+     * A method that returns the live section of an element
+     *
+     * @param name the name of the element
+     * @return the section (null if no section with the name was loaded)
+     */
+    @Nullable
+    public ConfigurationSection getSection(@NotNull String name) {
+        return this.sections.get(name);
+    }
+
+    /**
+     * A method that returns every live section in the order they were loaded
+     *
+     * @return every live section
+     */
+    @NotNull
+    public Collection<ConfigurationSection> getSections() {
+        return Collections.unmodifiableCollection(this.sections.values());
+    }
+
+    /**
+     * A method that returns true if a section differs from the live section with the same name
+     *
+     * @param section the newly loaded section
+     * @return true if the section differs or no section with its name was loaded
+     */
+    public boolean isChanged(@NotNull ConfigurationSection section) {
+        Map<String, Object> fingerprint = this.fingerprints.get(section.getName());
+        return fingerprint == null || !fingerprint.equals(ConfigSnapshot.fingerprint(section));
+    }
+
+    /**
+     * A method used to forget every section
+     */
+    public void clear() {
+        this.files.clear();
+        this.owners.clear();
+        this.sections.clear();
+        this.fingerprints.clear();
+    }
+
+    /**
+     * A util method used to flatten a section into its leaf values, nested sections only compare by identity so they are left out
+     */
+    @NotNull
+    private static Map<String, Object> fingerprint(@NotNull ConfigurationSection section) {
+        Map<String, Object> values = section.getValues(true);
+        values.values().removeIf(value -> value instanceof ConfigurationSection);
+        return values;
+    }
+}
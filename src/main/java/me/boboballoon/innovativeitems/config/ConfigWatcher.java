@@ -0,0 +1,123 @@
+package me.boboballoon.innovativeitems.config;
+
+import me.boboballoon.innovativeitems.util.LogUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A class used to watch the ability and item folders for changed files and hand them to the config manager for an incremental reload
+ */
+public final class ConfigWatcher implements Runnable {
+    private static final long QUIET_PERIOD = 250L; //editors often write a file several times in a row, changes are collected until the folders are quiet for this many milliseconds
+
+    private final ConfigManager manager;
+    private final File abilities;
+    private final File items;
+    private final WatchService service;
+    private final Thread thread;
+
+    public ConfigWatcher(@NotNull ConfigManager manager, @NotNull File abilities, @NotNull File items) throws IOException {
+        this.manager = manager;
+        this.abilities = abilities;
+        this.items = items;
+        this.service = FileSystems.getDefault().newWatchService();
+
+        abilities.toPath().register(this.service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        items.toPath().register(this.service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+
+        this.thread = new Thread(this, "InnovativeItems Config Watcher");
+        this.thread.setDaemon(true);
+        LogUtil.log(LogUtil.Level.INFO, "New config watcher initialized!");
+    }
+
+    /**
+     * A method used to start watching the folders
+     */
+    public void start() {
+        this.thread.start();
+    }
+
+    /**
+     * A method used to stop watching the folders
+     */
+    public void stop() {
+        try {
+            this.service.close();
+        } catch (IOException e) {
+            LogUtil.log(LogUtil.Level.WARNING, "An error occurred while trying to close the config watcher!");
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (true) {
+                Set<File> changedAbilities = new LinkedHashSet<>();
+                Set<File> changedItems = new LinkedHashSet<>();
+
+                WatchKey key = this.service.take();
+
+                while (key != null) {
+                    this.collect(key, changedAbilities, changedItems);
+                    key = this.service.poll(QUIET_PERIOD, TimeUnit.MILLISECONDS);
+                }
+
+                if (changedAbilities.isEmpty() && changedItems.isEmpty()) {
+                    continue;
+                }
+
+                try {
+                    this.manager.reloadChanged(changedAbilities, changedItems);
+                } catch (RuntimeException e) {
+                    LogUtil.log(LogUtil.Level.SEVERE, "A " + e.getClass().getSimpleName() + " occurred while hot reloading changed config files!");
+                    if (this.manager.getDebugLevel() >= LogUtil.Level.DEV.getDebugLevel()) {
+                        e.printStackTrace();
+                    }
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException ignored) {
+            //the watcher was stopped
+        }
+    }
+
+    /**
+     * A util method used to sort the changed yml files of a watch key into the folder they belong to
+     */
+    private void collect(@NotNull WatchKey key, @NotNull Set<File> changedAbilities, @NotNull Set<File> changedItems) {
+        Path directory = (Path) key.watchable();
+
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                continue;
+            }
+
+            File file = directory.resolve((Path) event.context()).toFile();
+            String name = file.getName();
+
+            //editors write swap and backup files next to the one being edited
+            if (!name.endsWith(".yml") && !name.endsWith(".yaml")) {
+                continue;
+            }
+
+            if (directory.equals(this.abilities.toPath())) {
+                changedAbilities.add(file);
+            } else if (directory.equals(this.items.toPath())) {
+                changedItems.add(file);
+            }
+        }
+
+        key.reset();
+    }
+}
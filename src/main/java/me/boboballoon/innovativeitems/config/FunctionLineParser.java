@@ -0,0 +1,430 @@
+package me.boboballoon.innovativeitems.config;
+
+import com.google.common.collect.ImmutableList;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A class built for parsing a single keyword or condition line, such as "!name(arg, "quoted, arg", nested(arg))", in one pass over its characters
+ *
+ * Grammar:
+ * line     = [ws] ["!"] name [ws] "(" [argument {"," argument}] ")" [ws]
+ * argument = [ws] (quoted | bare) [ws]
+ * quoted   = '"' {'\"' | any character other than '"'} '"'
+ * bare     = {"\(" | "\)" | "\," | "(" bare-with-commas ")" | any character other than "," "(" ")"}
+ *
+ * Only the last ")" of the line closes the call, any other ")" without a matching "(" is kept as text like it always was, so values like "thanks :)" keep working
+ * A "(" without a matching ")" is kept as text as well, the argument holding it then ends at the next unescaped "," like every argument did before, so values like "sad :(" keep working
+ * A backslash only escapes the characters that have a meaning here, every other backslash is kept so values like "\?player" reach their function untouched
+ *
+ * Unlike the old regex based parsing, an argument that starts with '"' is now a quoted argument: its surrounding quotes are removed from the value and
+ * anything other than whitespace between its closing quote and the next "," or ")" is an error, so a line like "message(?player, "a" b)" no longer loads
+ * To keep such a value, quote the whole argument and escape its inner quotes, "message(?player, "\"a\" b")" passes "a" b with its quotes
+ */
+public final class FunctionLineParser {
+    private final String line;
+    private final int length;
+    private final int last; //position of the last character that is not whitespace
+    private final StringBuilder buffer;
+    private int position;
+
+    private FunctionLineParser(@NotNull String line) {
+        this.line = line;
+        this.length = line.length();
+        this.buffer = new StringBuilder();
+        this.position = 0;
+
+        int last = this.length - 1;
+        while (last >= 0 && Character.isWhitespace(line.charAt(last))) {
+            last--;
+        }
+        this.last = last;
+    }
+
+    /**
+     * A util method used to parse a keyword or condition line
+     *
+     * @param line the raw line
+     * @return the parsed function call
+     * @throws SyntaxException if the line is not a valid function call
+     */
+    @NotNull
+    public static FunctionCall parse(@NotNull String line) throws SyntaxException {
+        return new FunctionLineParser(line).parseCall();
+    }
+
+    /**
+     * line = [ws] ["!"] name [ws] "(" arguments ")" [ws]
+     */
+    @NotNull
+    private FunctionCall parseCall() throws SyntaxException {
+        this.skipWhitespace();
+
+        boolean inverted = this.peek() == '!';
+        if (inverted) {
+            this.position++;
+        }
+
+        int column = this.position + 1;
+        String name = this.parseName();
+        this.skipWhitespace();
+
+        if (this.peek() != '(') {
+            throw this.error(this.position >= this.length ? "expected an opening parenthesis after " + name : "expected an opening parenthesis after " + name + " but found '" + this.peek() + "'");
+        }
+
+        this.position++;
+        ImmutableList<Argument> arguments = this.parseArguments(); //only returns once the parenthesis that closes the call is reached
+
+        return new FunctionCall(name, inverted, arguments, column);
+    }
+
+    /**
+     * name = word character {word character}
+     */
+    @NotNull
+    private String parseName() throws SyntaxException {
+        int start = this.position;
+
+        while (this.position < this.length && FunctionLineParser.isWordCharacter(this.line.charAt(this.position))) {
+            this.position++;
+        }
+
+        if (start == this.position) {
+            throw this.error(this.position >= this.length ? "expected the name of a keyword or condition" : "expected the name of a keyword or condition but found '" + this.peek() + "'");
+        }
+
+        return this.line.substring(start, this.position);
+    }
+
+    /**
+     * arguments = [argument {"," argument}], leaves the position on the parenthesis that closes the call
+     */
+    @NotNull
+    private ImmutableList<Argument> parseArguments() throws SyntaxException {
+        int open = this.position;
+        this.skipWhitespace();
+
+        if (this.isClosing()) {
+            return ImmutableList.of();
+        }
+
+        List<Argument> arguments = new ArrayList<>();
+
+        while (true) {
+            Argument argument = this.parseArgument(open);
+            boolean closing = this.isClosing();
+
+            if (argument.getValue().isEmpty() && !argument.isQuoted()) {
+                //a single trailing comma has always been allowed
+                if (!closing || arguments.isEmpty()) {
+                    throw this.error(argument.getColumn() - 1, "empty argument");
+                }
+
+                return ImmutableList.copyOf(arguments);
+            }
+
+            arguments.add(argument);
+
+            if (closing) {
+                return ImmutableList.copyOf(arguments);
+            }
+
+            this.position++; //parseArgument only stops on a comma or a closing parenthesis
+        }
+    }
+
+    /**
+     * argument = [ws] (quoted | bare) [ws]
+     */
+    @NotNull
+    private Argument parseArgument(int open) throws SyntaxException {
+        this.skipWhitespace();
+        int column = this.position + 1;
+        boolean quoted = this.peek() == '"';
+        String value;
+
+        if (quoted) {
+            value = this.parseQuoted();
+            this.skipWhitespace();
+
+            if (this.position >= this.length) {
+                throw this.error(open, "missing closing parenthesis");
+            }
+
+            if (this.peek() != ',' && !this.isClosing()) {
+                throw this.error("expected a comma or closing parenthesis after the quoted argument but found '" + this.peek() + "'");
+            }
+        } else {
+            value = this.parseBare(open);
+        }
+
+        return new Argument(value, quoted, column);
+    }
+
+    /**
+     * quoted = '"' {'\"' | any character other than '"'} '"'
+     */
+    @NotNull
+    private String parseQuoted() throws SyntaxException {
+        int open = this.position;
+        this.position++;
+        this.buffer.setLength(0);
+
+        while (this.position < this.length) {
+            char current = this.line.charAt(this.position++);
+
+            if (current == '"') {
+                return this.buffer.toString();
+            }
+
+            if (current == '\\' && this.position < this.length && this.line.charAt(this.position) == '"') {
+                current = '"';
+                this.position++;
+            }
+
+            this.buffer.append(current);
+        }
+
+        throw this.error(open, "missing closing quote");
+    }
+
+    /**
+     * bare = {escape | "(" bare-with-commas ")" | any character other than "," "(" ")"}, trailing whitespace is dropped and the position is left on the comma or closing parenthesis that ended it
+     */
+    @NotNull
+    private String parseBare(int open) throws SyntaxException {
+        int start = this.position;
+        String value = this.scanBare(true);
+
+        if (value != null) {
+            return value;
+        }
+
+        //a "(" without a matching ")" is kept as text like the old parser did, so the argument is scanned again without nesting
+        this.position = start;
+        value = this.scanBare(false);
+
+        if (value == null) {
+            throw this.error(open, "missing closing parenthesis");
+        }
+
+        return value;
+    }
+
+    /**
+     * A util method used to scan a bare argument, returning null if the end of the line was reached before the comma or parenthesis that ends it
+     */
+    @Nullable
+    private String scanBare(boolean nesting) {
+        this.buffer.setLength(0);
+        int depth = 0;
+        int end = 0; //length of the value without trailing whitespace
+
+        while (this.position < this.length) {
+            char current = this.line.charAt(this.position);
+
+            if (current == '\\' && this.position + 1 < this.length && FunctionLineParser.isEscapable(this.line.charAt(this.position + 1))) {
+                this.buffer.append(this.line.charAt(this.position + 1));
+                this.position += 2;
+                end = this.buffer.length();
+                continue;
+            }
+
+            if (depth == 0 && (current == ',' || this.isClosing())) {
+                this.buffer.setLength(end);
+                return this.buffer.toString();
+            }
+
+            if (nesting && current == '(') {
+                depth++;
+            } else if (nesting && current == ')' && depth > 0) {
+                depth--;
+            }
+
+            this.buffer.append(current);
+            this.position++;
+
+            if (!Character.isWhitespace(current)) {
+                end = this.buffer.length();
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * A util method used to move the position past any whitespace
+     */
+    private void skipWhitespace() {
+        while (this.position < this.length && Character.isWhitespace(this.line.charAt(this.position))) {
+            this.position++;
+        }
+    }
+
+    /**
+     * A util method that returns true if the position is on the parenthesis that closes the call
+     */
+    private boolean isClosing() {
+        return this.position == this.last && this.line.charAt(this.position) == ')';
+    }
+
+    /**
+     * A util method that returns the character at the position or a null character at the end of the line
+     */
+    private char peek() {
+        return this.position < this.length ? this.line.charAt(this.position) : '\0';
+    }
+
+    /**
+     * A util method that returns an error at the current position
+     */
+    @NotNull
+    private SyntaxException error(@NotNull String message) {
+        return this.error(this.position, message);
+    }
+
+    /**
+     * A util method that returns an error at the provided position
+     */
+    @NotNull
+    private SyntaxException error(int position, @NotNull String message) {
+        return new SyntaxException(message, position + 1);
+    }
+
+    /**
+     * A util method that returns true if the character may be used in the name of a function (same as the \w regex class)
+     */
+    private static boolean isWordCharacter(char character) {
+        return (character >= 'a' && character <= 'z') || (character >= 'A' && character <= 'Z') || (character >= '0' && character <= '9') || character == '_';
+    }
+
+    /**
+     * A util method that returns true if the character loses its meaning when prefixed by a backslash in a bare argument
+     */
+    private static boolean isEscapable(char character) {
+        return character == '(' || character == ')' || character == ',';
+    }
+
+    /**
+     * A class that represents a parsed keyword or condition line
+     */
+    public static final class FunctionCall {
+        private final String name;
+        private final boolean inverted;
+        private final ImmutableList<Argument> arguments;
+        private final int column;
+
+        private FunctionCall(@NotNull String name, boolean inverted, @NotNull ImmutableList<Argument> arguments, int column) {
+            this.name = name;
+            this.inverted = inverted;
+            this.arguments = arguments;
+            this.column = column;
+        }
+
+        /**
+         * A method that returns the name of the called function
+         *
+         * @return the name of the called function
+         */
+        @NotNull
+        public String getName() {
+            return this.name;
+        }
+
+        /**
+         * A method that returns true if the line started with "!"
+         *
+         * @return true if the line started with "!"
+         */
+        public boolean isInverted() {
+            return this.inverted;
+        }
+
+        /**
+         * A method that returns the arguments in the order they were provided
+         *
+         * @return the arguments in the order they were provided
+         */
+        @NotNull
+        public ImmutableList<Argument> getArguments() {
+            return this.arguments;
+        }
+
+        /**
+         * A method that returns the column the name of the function starts on (starting at 1)
+         *
+         * @return the column the name of the function starts on
+         */
+        public int getColumn() {
+            return this.column;
+        }
+    }
+
+    /**
+     * A class that represents a single argument of a parsed line
+     */
+    public static final class Argument {
+        private final String value;
+        private final boolean quoted;
+        private final int column;
+
+        private Argument(@NotNull String value, boolean quoted, int column) {
+            this.value = value;
+            this.quoted = quoted;
+            this.column = column;
+        }
+
+        /**
+         * A method that returns the value of the argument without surrounding whitespace, quotes or escapes
+         *
+         * @return the value of the argument
+         */
+        @NotNull
+        public String getValue() {
+            return this.value;
+        }
+
+        /**
+         * A method that returns true if the argument was surrounded by quotes
+         *
+         * @return true if the argument was surrounded by quotes
+         */
+        public boolean isQuoted() {
+            return this.quoted;
+        }
+
+        /**
+         * A method that returns the column the argument starts on (starting at 1)
+         *
+         * @return the column the argument starts on
+         */
+        public int getColumn() {
+            return this.column;
+        }
+    }
+
+    /**
+     * An exception thrown when a line is not a valid function call
+     */
+    public static final class SyntaxException extends Exception {
+        private final int column;
+
+        private SyntaxException(@NotNull String message, int column) {
+            super(message);
+            this.column = column;
+        }
+
+        /**
+         * A method that returns the column the error was found on (starting at 1)
+         *
+         * @return the column the error was found on
+         */
+        public int getColumn() {
+            return this.column;
+        }
+    }
+}
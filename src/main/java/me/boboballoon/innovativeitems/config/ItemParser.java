@@ -2,6 +2,7 @@ package me.boboballoon.innovativeitems.config;
 
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Multimap;
 import com.mojang.authlib.GameProfile;
 import com.mojang.authlib.properties.Property;
@@ -55,6 +56,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * A class built for parsing configuration sections and convert into CustomItem objects
@@ -89,6 +91,20 @@ public final class ItemParser {
      */
     @Nullable
     public static CustomItem parseItem(@NotNull ConfigurationSection section, @NotNull String name, boolean parseRecipe) {
+        return ItemParser.parseItem(section, name, parseRecipe, null);
+    }
+
+    /**
+     * A util method used to parse a custom item from a config section
+     *
+     * @param section     the config section
+     * @param name        the name of the item
+     * @param parseRecipe if the recipe of the custom item should be parsed
+     * @param compiled    the itemstack that was already built for this section (null if it should be built)
+     * @return the custom item (null if an error occurred)
+     */
+    @Nullable
+    public static CustomItem parseItem(@NotNull ConfigurationSection section, @NotNull String name, boolean parseRecipe, @Nullable ItemStack compiled) {
         if (!section.isString("material")) {
             LogUtil.log(LogUtil.Level.WARNING, "Could not find material field while parsing the item by the name of " + name + "!");
             return null;
@@ -128,57 +144,87 @@ public final class ItemParser {
 
         boolean updateItem = section.isBoolean("update-item") ? section.getBoolean("update-item") : true;
 
-        ItemStack underlying = ItemParser.createUnderlyingItemStack(section, name, material, displayName, lore, enchantments, flags, attributes, customModelData, unbreakable, maxDurability);
+        Supplier<ItemStack> factory = compiled == null ? ItemParser.createUnderlyingItemFactory(section, name, material, displayName, lore, enchantments, flags, attributes, customModelData, unbreakable, maxDurability) : null;
+
+        ItemStack underlying = compiled != null ? compiled : ItemParser.isBuiltEagerly(section, parseRecipe) ? factory.get() : null;
 
         ImmutableList<Recipe> recipes = parseRecipe && section.isConfigurationSection("recipes") ? ItemParser.getRecipe(section, name, underlying) : null;
 
-        return new CustomItem(name, abilities, underlying, placeable, soulbound, wearable, maxDurability, updateItem, recipes);
+        ImmutableMap<PotionEffectType, Integer> passiveEffects = section.isConfigurationSection("passive-effects") ? ItemParser.getPassiveEffects(section, name) : null;
+
+        if (underlying == null) {
+            return new CustomItem(name, abilities, material, factory, placeable, soulbound, wearable, maxDurability, updateItem, recipes, passiveEffects);
+        }
+
+        return new CustomItem(name, abilities, underlying, placeable, soulbound, wearable, maxDurability, updateItem, recipes, passiveEffects);
     }
 
     /**
-     * Create the underlying itemstack of a custom item
+     * A util method that returns true if the itemstack of an item should be built while it is parsed instead of the first time it is needed
+     *
+     * @param section     the config section of the item
+     * @param parseRecipe if the recipe of the custom item will be parsed
+     * @return true if the itemstack should be built while the item is parsed
      */
-    private static ItemStack createUnderlyingItemStack(ConfigurationSection section, @NotNull String identifier, @NotNull Material material, @Nullable String itemName, @Nullable List<String> lore, @Nullable Map<Enchantment, Integer> enchantments, @Nullable List<ItemFlag> flags, @Nullable Multimap<Attribute, AttributeModifier> attributes, @Nullable Integer customModelData, boolean unbreakable, int durability) {
+    public static boolean isBuiltEagerly(@NotNull ConfigurationSection section, boolean parseRecipe) {
+        //recipes hold the itemstack as their result, so items with recipes always need it right away
+        return !InnovativeItems.getInstance().getConfigManager().shouldLoadItemStacksLazily() || (parseRecipe && section.isConfigurationSection("recipes"));
+    }
+
+    /**
+     * Create the factory of the underlying itemstack of a custom item, every config value is read right away so mistakes are still reported while parsing
+     */
+    private static Supplier<ItemStack> createUnderlyingItemFactory(ConfigurationSection section, @NotNull String identifier, @NotNull Material material, @Nullable String itemName, @Nullable List<String> lore, @Nullable Map<Enchantment, Integer> enchantments, @Nullable List<ItemFlag> flags, @Nullable Multimap<Attribute, AttributeModifier> attributes, @Nullable Integer customModelData, boolean unbreakable, int durability) {
         //skull item
         if (section.isConfigurationSection("skull") && material == Material.PLAYER_HEAD) {
             ConfigurationSection skullSection = section.getConfigurationSection("skull");
-            return SkullItem.generateItem(identifier, itemName, lore, enchantments, flags, attributes, customModelData, ItemParser.getSkullName(skullSection), ItemParser.getSkullBase64(skullSection));
+            String skullName = ItemParser.getSkullName(skullSection);
+            String skullBase64 = ItemParser.getSkullBase64(skullSection);
+            return () -> SkullItem.generateItem(identifier, itemName, lore, enchantments, flags, attributes, customModelData, skullName, skullBase64);
         }
 
         //leather armor item
         if (section.isConfigurationSection("leather-armor") && LeatherArmorItem.isLeatherArmor(material)) {
             ConfigurationSection leatherArmorSection = section.getConfigurationSection("leather-armor");
             DyeColor color = ItemParser.getColor(leatherArmorSection, itemName);
-            return LeatherArmorItem.generateItem(identifier, material, itemName, lore, enchantments, flags, attributes, customModelData, unbreakable, durability, ItemParser.getRGB(leatherArmorSection, itemName), color != null ? color.getColor() : null);
+            Color rgb = ItemParser.getRGB(leatherArmorSection, itemName);
+            return () -> LeatherArmorItem.generateItem(identifier, material, itemName, lore, enchantments, flags, attributes, customModelData, unbreakable, durability, rgb, color != null ? color.getColor() : null);
         }
 
         //potion item
         if (section.isConfigurationSection("potion") && PotionItem.isPotion(material)) {
             ConfigurationSection potionSection = section.getConfigurationSection("potion");
             DyeColor color = ItemParser.getColor(potionSection, itemName);
-            return PotionItem.generateItem(identifier, material, itemName, lore, enchantments, flags, attributes, customModelData, ItemParser.getRGB(potionSection, itemName), color != null ? color.getColor() : null, ItemParser.getPotionEffects(potionSection, itemName));
+            Color rgb = ItemParser.getRGB(potionSection, itemName);
+            List<PotionEffect> effects = ItemParser.getPotionEffects(potionSection, itemName);
+            return () -> PotionItem.generateItem(identifier, material, itemName, lore, enchantments, flags, attributes, customModelData, rgb, color != null ? color.getColor() : null, effects);
         }
 
         //banner item
         if (section.isConfigurationSection("banner") && BannerItem.isBanner(material)) {
             ConfigurationSection bannerSection = section.getConfigurationSection("banner");
-            return BannerItem.generateItem(identifier, material, itemName, lore, enchantments, flags, attributes, customModelData, durability, ItemParser.getBannerPatterns(bannerSection, itemName));
+            List<Pattern> patterns = ItemParser.getBannerPatterns(bannerSection, itemName);
+            return () -> BannerItem.generateItem(identifier, material, itemName, lore, enchantments, flags, attributes, customModelData, durability, patterns);
         }
 
         //firework item
         if (section.isConfigurationSection("firework") && material == Material.FIREWORK_ROCKET) {
             ConfigurationSection fireworkSection = section.getConfigurationSection("firework");
-            return FireworkItem.generateItem(identifier, itemName, lore, enchantments, flags, attributes, customModelData, ItemParser.getFireworkEffects(fireworkSection, itemName), ItemParser.getFireworkPower(fireworkSection, itemName));
+            List<FireworkEffect> effects = ItemParser.getFireworkEffects(fireworkSection, itemName);
+            Integer power = ItemParser.getFireworkPower(fireworkSection, itemName);
+            return () -> FireworkItem.generateItem(identifier, itemName, lore, enchantments, flags, attributes, customModelData, effects, power);
         }
 
         //shield item
         if (section.isConfigurationSection("shield") && material == Material.SHIELD) {
             ConfigurationSection shieldSection = section.getConfigurationSection("shield");
-            return ShieldItem.generateItem(identifier, itemName, lore, enchantments, flags, attributes, customModelData, durability, ItemParser.getBannerPatterns(shieldSection, itemName), ItemParser.getColor(shieldSection, itemName));
+            List<Pattern> patterns = ItemParser.getBannerPatterns(shieldSection, itemName);
+            DyeColor color = ItemParser.getColor(shieldSection, itemName);
+            return () -> ShieldItem.generateItem(identifier, itemName, lore, enchantments, flags, attributes, customModelData, durability, patterns, color);
         }
 
         //generic item
-        return CustomItem.generateItem(identifier, material, itemName, lore, enchantments, flags, attributes, customModelData, unbreakable, durability);
+        return () -> CustomItem.generateItem(identifier, material, itemName, lore, enchantments, flags, attributes, customModelData, unbreakable, durability);
     }
 
     /**
@@ -229,6 +275,32 @@ public final class ItemParser {
         return ImmutableList.of(ability);
     }
 
+    /**
+     * Get the passive effects field from an item config section
+     */
+    static ImmutableMap<PotionEffectType, Integer> getPassiveEffects(ConfigurationSection section, String itemName) {
+        ConfigurationSection effectSection = section.getConfigurationSection("passive-effects");
+        Map<PotionEffectType, Integer> effects = new HashMap<>();
+
+        for (String effectName : effectSection.getKeys(false)) {
+            PotionEffectType type = PotionEffectType.getByName(effectName.toUpperCase());
+
+            if (type == null) {
+                LogUtil.log(LogUtil.Level.WARNING, "Could not find potion effect with the name " + effectName + " while parsing the passive effects of the item by the name of " + itemName + " during item initialization and parsing stage!");
+                continue;
+            }
+
+            if (!effectSection.isInt(effectName) || effectSection.getInt(effectName) < 0) {
+                LogUtil.log(LogUtil.Level.WARNING, "The passive " + effectName + " effect of the item by the name of " + itemName + " must have a level that is a positive integer!");
+                continue;
+            }
+
+            effects.put(type, effectSection.getInt(effectName));
+        }
+
+        return ImmutableMap.copyOf(effects);
+    }
+
     /**
      * Get the lore field from an item config section
      */
@@ -0,0 +1,126 @@
+package me.boboballoon.innovativeitems.config;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import me.boboballoon.innovativeitems.InnovativeItems;
+import me.boboballoon.innovativeitems.items.InnovativeCache;
+import me.boboballoon.innovativeitems.items.ability.Ability;
+import me.boboballoon.innovativeitems.items.ability.trigger.builtin.set.SetActivatedTrigger;
+import me.boboballoon.innovativeitems.items.ability.trigger.builtin.set.SetDeactivatedTrigger;
+import me.boboballoon.innovativeitems.items.set.ItemSet;
+import me.boboballoon.innovativeitems.items.set.SetBonus;
+import me.boboballoon.innovativeitems.util.LogUtil;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.potion.PotionEffectType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A class built for parsing configuration sections and convert into ItemSet objects
+ */
+public final class ItemSetParser {
+    /**
+     * Constructor to prevent people from using this util class in an object oriented way
+     */
+    private ItemSetParser() {}
+
+    /**
+     * A util method used to parse an item set from a config section
+     *
+     * @param section the config section
+     * @param name the name of the item set
+     * @return the item set (null if an error occurred)
+     */
+    @Nullable
+    public static ItemSet parseItemSet(@NotNull ConfigurationSection section, @NotNull String name) {
+        if (!section.isList("members")) {
+            LogUtil.log(LogUtil.Level.WARNING, "Could not find members field while parsing the item set by the name of " + name + "!");
+            return null;
+        }
+
+        InnovativeCache cache = InnovativeItems.getInstance().getItemCache();
+        ImmutableSet.Builder<String> members = ImmutableSet.builder();
+
+        for (String member : section.getStringList("members")) {
+            if (cache.getItem(member) == null) {
+                LogUtil.log(LogUtil.Level.WARNING, "Could not find custom item with the name " + member + " while parsing the item set by the name of " + name + "!");
+                continue;
+            }
+
+            members.add(member);
+        }
+
+        if (!section.isConfigurationSection("bonuses")) {
+            LogUtil.log(LogUtil.Level.WARNING, "Could not find bonuses field while parsing the item set by the name of " + name + "!");
+            return null;
+        }
+
+        ConfigurationSection bonusSection = section.getConfigurationSection("bonuses");
+        List<SetBonus> bonuses = new ArrayList<>();
+
+        for (String key : bonusSection.getKeys(false)) {
+            int pieces;
+            try {
+                pieces = Integer.parseInt(key);
+            } catch (NumberFormatException e) {
+                LogUtil.log(LogUtil.Level.WARNING, "The bonus " + key + " of the item set by the name of " + name + " must be named after the amount of pieces it needs!");
+                continue;
+            }
+
+            if (pieces < 1 || !bonusSection.isConfigurationSection(key)) {
+                LogUtil.log(LogUtil.Level.WARNING, "The bonus " + key + " of the item set by the name of " + name + " must need at least one piece and be a section!");
+                continue;
+            }
+
+            ConfigurationSection bonus = bonusSection.getConfigurationSection(key);
+            ImmutableMap<PotionEffectType, Integer> passiveEffects = bonus.isConfigurationSection("passive-effects") ? ItemParser.getPassiveEffects(bonus, name) : ImmutableMap.of();
+
+            bonuses.add(new SetBonus(pieces, ItemSetParser.getAbilities(bonus, name, cache), passiveEffects));
+        }
+
+        bonuses.sort(Comparator.comparingInt(SetBonus::getPieces));
+
+        return new ItemSet(name, members.build(), ImmutableList.copyOf(bonuses));
+    }
+
+    /**
+     * Get the ability field from a set bonus config section
+     */
+    private static ImmutableList<Ability> getAbilities(ConfigurationSection section, String setName, InnovativeCache cache) {
+        List<String> rawAbilities;
+
+        if (section.isString("ability")) {
+            rawAbilities = Collections.singletonList(section.getString("ability"));
+        } else if (section.isList("ability")) {
+            rawAbilities = section.getStringList("ability");
+        } else {
+            return ImmutableList.of();
+        }
+
+        List<Ability> abilities = new ArrayList<>();
+
+        for (String raw : rawAbilities) {
+            Ability ability = cache.getAbility(raw);
+
+            if (ability == null) {
+                LogUtil.log(LogUtil.Level.WARNING, "Could not find ability with the name " + raw + " while parsing the item set by the name of " + setName + "!");
+                continue;
+            }
+
+            if (!(ability.getTrigger() instanceof SetActivatedTrigger) && !(ability.getTrigger() instanceof SetDeactivatedTrigger)) {
+                LogUtil.log(LogUtil.Level.WARNING, "The " + raw + " ability on the item set by the name of " + setName + " must use the set-activated or set-deactivated trigger!");
+                continue;
+            }
+
+            abilities.add(ability);
+        }
+
+        return ImmutableList.copyOf(abilities);
+    }
+}
@@ -3,6 +3,8 @@ package me.boboballoon.innovativeitems.functions;
 import com.google.common.collect.ImmutableList;
 import me.boboballoon.innovativeitems.InnovativeItems;
 import me.boboballoon.innovativeitems.functions.context.RuntimeContext;
+import me.boboballoon.innovativeitems.profiler.AbilityProfiler;
+import me.boboballoon.innovativeitems.profiler.FunctionTimings;
 import me.boboballoon.innovativeitems.util.LogUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -52,14 +54,22 @@ public abstract class ActiveFunction<T> {
      */
     @Nullable
     public final T execute(@NotNull RuntimeContext context) {
+        AbilityProfiler profiler = InnovativeItems.getInstance().getAbilityProfiler();
+        FunctionTimings timings = profiler.isEnabled() ? new FunctionTimings() : null;
+        long start = timings != null ? System.nanoTime() : 0;
+
         try {
-            return this.base.execute(this.arguments, context);
+            return this.base.execute(this.arguments, context, timings);
         } catch (ExecutionException e) {
             LogUtil.log(LogUtil.Level.SEVERE, "There was an error trying to execute the " + this.base.getIdentifier() + " function on the " + context.getAbilityName() + " ability!");
             if (InnovativeItems.getInstance().getConfigManager().getDebugLevel() >= LogUtil.Level.DEV.getDebugLevel()) {
                 e.printStackTrace();
             }
             return null;
+        } finally {
+            if (timings != null) {
+                profiler.recordFunction(this, context, System.nanoTime() - start, timings);
+            }
         }
     }
 }
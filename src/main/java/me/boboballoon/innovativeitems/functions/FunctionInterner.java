@@ -0,0 +1,257 @@
+package me.boboballoon.innovativeitems.functions;
+
+import com.google.common.collect.ImmutableList;
+import me.boboballoon.innovativeitems.functions.condition.ActiveCondition;
+import me.boboballoon.innovativeitems.functions.condition.Condition;
+import me.boboballoon.innovativeitems.functions.keyword.ActiveKeyword;
+import me.boboballoon.innovativeitems.functions.keyword.Keyword;
+import me.boboballoon.innovativeitems.items.ability.Ability;
+import me.boboballoon.innovativeitems.util.LogUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * A class used to share one instance of every identical parsed function and argument value across all abilities, so large configs that repeat the same lines only keep one copy of them (safe to use async)
+ */
+public final class FunctionInterner {
+    //rough sizes of the objects that are no longer kept for every copy, assuming compressed references
+    private static final int FUNCTION_BYTES = 24;
+    private static final int LIST_BYTES = 32;
+    private static final int REFERENCE_BYTES = 4;
+    private static final int STRING_BYTES = 40;
+    private static final int BOXED_BYTES = 16;
+
+    private final Map<Object, Object> values;
+    private final Map<Key, ActiveFunction<?>> functions;
+    private final AtomicLong totalFunctions;
+    private final AtomicLong sharedFunctions;
+    private final AtomicLong totalValues;
+    private final AtomicLong sharedValues;
+    private final AtomicLong savedBytes;
+
+    public FunctionInterner() {
+        this.values = new ConcurrentHashMap<>();
+        this.functions = new ConcurrentHashMap<>();
+        this.totalFunctions = new AtomicLong();
+        this.sharedFunctions = new AtomicLong();
+        this.totalValues = new AtomicLong();
+        this.sharedValues = new AtomicLong();
+        this.savedBytes = new AtomicLong();
+    }
+
+    /**
+     * A method that returns the shared keyword with the provided base and arguments, creating it if none exists yet
+     *
+     * @param base the base keyword
+     * @param arguments the parsed arguments
+     * @return the shared keyword
+     */
+    @NotNull
+    public ActiveKeyword intern(@NotNull Keyword base, @NotNull ImmutableList<Object> arguments) {
+        ImmutableList<Object> interned = this.internArguments(arguments);
+        return (ActiveKeyword) this.internFunction(new Key(base, interned, false), () -> new ActiveKeyword(base, interned));
+    }
+
+    /**
+     * A method that returns the shared condition with the provided base, arguments and inversion, creating it if none exists yet
+     *
+     * @param base the base condition
+     * @param arguments the parsed arguments
+     * @param inverted if the condition is inverted
+     * @return the shared condition
+     */
+    @NotNull
+    public ActiveCondition intern(@NotNull Condition base, @NotNull ImmutableList<Object> arguments, boolean inverted) {
+        ImmutableList<Object> interned = this.internArguments(arguments);
+        return (ActiveCondition) this.internFunction(new Key(base, interned, inverted), () -> new ActiveCondition(base, interned, inverted));
+    }
+
+    /**
+     * A method used to forget every shared instance and reset the counters, called before every ability is parsed again
+     */
+    public void clear() {
+        this.values.clear();
+        this.functions.clear();
+        this.totalFunctions.set(0);
+        this.sharedFunctions.set(0);
+        this.totalValues.set(0);
+        this.sharedValues.set(0);
+        this.savedBytes.set(0);
+    }
+
+    /**
+     * A method used to forget every shared instance that the provided abilities do not use and reset the counters, called before changed abilities are parsed again on a hot reload
+     *
+     * @param abilities the abilities that stay registered
+     */
+    public void retain(@NotNull Collection<Ability> abilities) {
+        this.clear();
+
+        for (Ability ability : abilities) {
+            for (ActiveKeyword keyword : ability.getKeywords()) {
+                this.seed(keyword, false);
+            }
+
+            for (ActiveCondition condition : ability.getConditions()) {
+                this.seed(condition, condition.isInverted());
+            }
+        }
+    }
+
+    /**
+     * A method used to log how much was deduplicated since the last clear
+     */
+    public void logReport() {
+        LogUtil.log(LogUtil.Level.INFO, "Shared " + this.sharedFunctions.get() + " of " + this.totalFunctions.get() + " parsed keywords and conditions (" + this.functions.size() + " unique) and "
+                + this.sharedValues.get() + " of " + this.totalValues.get() + " argument values (" + this.values.size() + " unique), saving about " + (this.savedBytes.get() + 1023) / 1024 + "KB!");
+    }
+
+    /**
+     * A util method that returns the shared function for a key, the function is only created if the key was not seen before
+     */
+    @NotNull
+    private ActiveFunction<?> internFunction(@NotNull Key key, @NotNull Supplier<ActiveFunction<?>> factory) {
+        this.totalFunctions.incrementAndGet();
+        ActiveFunction<?> shared = this.functions.get(key);
+
+        if (shared == null) {
+            ActiveFunction<?> created = factory.get();
+            shared = this.functions.putIfAbsent(key, created);
+
+            if (shared == null) {
+                return created;
+            }
+        }
+
+        this.sharedFunctions.incrementAndGet();
+        this.savedBytes.addAndGet(FUNCTION_BYTES + LIST_BYTES + (long) REFERENCE_BYTES * key.arguments.size());
+        return shared;
+    }
+
+    /**
+     * A util method that returns the arguments with every value replaced by its shared copy
+     */
+    @NotNull
+    private ImmutableList<Object> internArguments(@NotNull ImmutableList<Object> arguments) {
+        if (arguments.isEmpty()) {
+            return arguments;
+        }
+
+        Object[] interned = new Object[arguments.size()];
+        boolean changed = false;
+
+        for (int i = 0; i < interned.length; i++) {
+            Object value = arguments.get(i);
+            interned[i] = this.internValue(value);
+            changed |= interned[i] != value;
+        }
+
+        return changed ? ImmutableList.copyOf(interned) : arguments;
+    }
+
+    /**
+     * A util method that returns the shared copy of a value, only immutable values with a meaningful equals are shared, enums and worlds are already shared by the server
+     */
+    @NotNull
+    private Object internValue(@NotNull Object value) {
+        long bytes;
+
+        if (value instanceof String) {
+            bytes = STRING_BYTES + ((String) value).length();
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Double || value instanceof Float || value instanceof Boolean) {
+            bytes = BOXED_BYTES;
+        } else if (value instanceof ImmutableList) {
+            //the elements are interned first so even a list seen for the first time holds shared elements, equal lists are then shared as a whole
+            ImmutableList<?> list = (ImmutableList<?>) value;
+            Object[] elements = new Object[list.size()];
+
+            for (int i = 0; i < elements.length; i++) {
+                elements[i] = this.internValue(list.get(i));
+            }
+
+            value = ImmutableList.copyOf(elements);
+            bytes = LIST_BYTES + (long) REFERENCE_BYTES * elements.length;
+        } else {
+            return value;
+        }
+
+        this.totalValues.incrementAndGet();
+        Object shared = this.values.putIfAbsent(value, value);
+
+        if (shared == null) {
+            return value;
+        }
+
+        this.sharedValues.incrementAndGet();
+        this.savedBytes.addAndGet(bytes);
+        return shared;
+    }
+
+    /**
+     * A util method used to share an already parsed function and its argument values with functions parsed later, without counting it
+     */
+    private void seed(@NotNull ActiveFunction<?> function, boolean inverted) {
+        this.functions.putIfAbsent(new Key(function.getBase(), function.getArguments(), inverted), function);
+
+        for (Object argument : function.getArguments()) {
+            this.seedValue(argument);
+        }
+    }
+
+    /**
+     * A util method used to share an already interned value with values parsed later, without counting it
+     */
+    private void seedValue(@NotNull Object value) {
+        if (value instanceof ImmutableList) {
+            for (Object element : (ImmutableList<?>) value) {
+                this.seedValue(element);
+            }
+        } else if (!(value instanceof String) && !(value instanceof Integer) && !(value instanceof Long) && !(value instanceof Double) && !(value instanceof Float) && !(value instanceof Boolean)) {
+            return;
+        }
+
+        this.values.putIfAbsent(value, value);
+    }
+
+    /**
+     * A class used to compare parsed functions by their base, arguments and inversion
+     */
+    private static final class Key {
+        private final InnovativeFunction<?> base;
+        private final List<Object> arguments;
+        private final boolean inverted;
+        private final int hash;
+
+        private Key(@NotNull InnovativeFunction<?> base, @NotNull List<Object> arguments, boolean inverted) {
+            this.base = base;
+            this.arguments = arguments;
+            this.inverted = inverted;
+            this.hash = (System.identityHashCode(base) * 31 + arguments.hashCode()) * 31 + Boolean.hashCode(inverted);
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+
+            if (!(object instanceof Key)) {
+                return false;
+            }
+
+            Key key = (Key) object;
+            return this.base == key.base && this.inverted == key.inverted && this.hash == key.hash && this.arguments.equals(key.arguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+}
@@ -9,12 +9,15 @@ import me.boboballoon.innovativeitems.functions.keyword.Keyword;
 import me.boboballoon.innovativeitems.items.ability.Ability;
 import me.boboballoon.innovativeitems.items.ability.trigger.AbilityTrigger;
 import me.boboballoon.innovativeitems.items.ability.trigger.ManuallyRegister;
+import me.boboballoon.innovativeitems.items.ability.trigger.TriggerRateLimiter;
 import me.boboballoon.innovativeitems.items.item.CustomItem;
+import me.boboballoon.innovativeitems.profiler.ListenerTimings;
 import me.boboballoon.innovativeitems.util.LogUtil;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.Event;
 import org.bukkit.event.EventPriority;
+import org.bukkit.plugin.EventExecutor;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -28,11 +31,13 @@ public final class FunctionManager {
     private final Map<String, Keyword> keywords;
     private final Map<String, Condition> conditions;
     private final Map<String, AbilityTrigger<?, ?>> triggers;
+    private final FunctionInterner interner;
 
     public FunctionManager() {
         this.keywords = new LinkedHashMap<>(); //used to preserve order
         this.conditions = new LinkedHashMap<>();
         this.triggers = new LinkedHashMap<>();
+        this.interner = new FunctionInterner();
 
         //unblocked because debug level is null
         LogUtil.logUnblocked(LogUtil.Level.INFO, "Function manager initialized!");
@@ -298,6 +303,16 @@ public final class FunctionManager {
         return ImmutableList.copyOf(this.triggers.values());
     }
 
+    /**
+     * A method that returns the interner that shares identical parsed keywords and conditions across abilities
+     *
+     * @return the interner that shares identical parsed keywords and conditions across abilities
+     */
+    @NotNull
+    public FunctionInterner getInterner() {
+        return this.interner;
+    }
+
     /**
      * A method used to check whether the cache contains a function with the provided identifier
      *
@@ -353,7 +368,7 @@ public final class FunctionManager {
             return;
         }
 
-        Bukkit.getPluginManager().registerEvent(trigger.getEventClass(), trigger, EventPriority.HIGHEST, ((listener, instance) -> {
+        EventExecutor executor = (listener, instance) -> {
             if (!trigger.getEventClass().isInstance(instance)) {
                 return;
             }
@@ -361,11 +376,18 @@ public final class FunctionManager {
             T event = (T) instance;
 
             if (!trigger.getPredicate().test(event)) {
-                LogUtil.log(LogUtil.Level.NOISE, "The event " + event.getEventName() + " failed the trigger predicate on the " + trigger.getIdentifier() + " ability trigger!");
+                //high frequency events such as movement fail here almost every time, so the message is only built when it will be shown
+                if (InnovativeItems.getInstance().getConfigManager().getDebugLevel() >= LogUtil.Level.NOISE.getDebugLevel()) {
+                    LogUtil.log(LogUtil.Level.NOISE, "The event " + event.getEventName() + " failed the trigger predicate on the " + trigger.getIdentifier() + " ability trigger!");
+                }
                 return;
             }
 
             Player player = trigger.fromEvent(event);
+            TriggerRateLimiter rateLimiter = InnovativeItems.getInstance().getTriggerRateLimiter();
+            TriggerRateLimiter.Scope scope = trigger.getRateLimitScope();
+
+            Boolean admitted = null; //the global bucket is charged once per event, only when an ability without a limit of its own needs it
 
             for (CustomItem item : trigger.getIterator().getItems(event, player)) {
                 if (item == null) {
@@ -377,13 +399,31 @@ public final class FunctionManager {
                         continue;
                     }
 
+                    //an ability with a rate limit of its own overrides the global limit instead of being charged by both
+                    if (scope == TriggerRateLimiter.Scope.GLOBAL && ability.getRateLimit() == null) {
+                        if (admitted == null) {
+                            admitted = rateLimiter.tryAcquire(player, trigger);
+                        }
+
+                        if (!admitted) {
+                            continue;
+                        }
+                    }
+
                     RuntimeContext context = trigger.trigger(event, item, ability);
 
-                    if (context != null) {
-                        Bukkit.getScheduler().runTaskAsynchronously(InnovativeItems.getInstance(), () -> ability.execute(context));
+                    //abilities the trigger filtered out must not use up their rate limit
+                    if (context == null || (scope != TriggerRateLimiter.Scope.NONE && !rateLimiter.tryAcquire(player, ability))) {
+                        continue;
                     }
+
+                    RuntimeContext prepared = ability.prepareContext(context);
+                    Bukkit.getScheduler().runTaskAsynchronously(InnovativeItems.getInstance(), () -> ability.execute(prepared));
                 }
             }
-        }), InnovativeItems.getInstance());
+        };
+
+        ListenerTimings timings = InnovativeItems.getInstance().getListenerTimings();
+        Bukkit.getPluginManager().registerEvent(trigger.getEventClass(), trigger, EventPriority.HIGHEST, timings.wrap("trigger:" + trigger.getIdentifier(), trigger.getEventClass(), executor), InnovativeItems.getInstance());
     }
 }
@@ -4,10 +4,13 @@ import com.google.common.collect.ImmutableList;
 import me.boboballoon.innovativeitems.InnovativeItems;
 import me.boboballoon.innovativeitems.functions.arguments.ExpectedArguments;
 import me.boboballoon.innovativeitems.functions.context.RuntimeContext;
+import me.boboballoon.innovativeitems.items.ability.ExecutionToken;
+import me.boboballoon.innovativeitems.profiler.FunctionTimings;
 import org.bukkit.Bukkit;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 
@@ -61,28 +64,93 @@ public abstract class InnovativeFunction<T> {
      */
     public abstract boolean isAsync();
 
+    /**
+     * A method that returns a boolean that is true when the function reads the item of an item context, so the fallback item is only looked up for abilities that need it
+     *
+     * @return a boolean that is true when the function reads the item of an item context
+     */
+    public boolean usesItemContext() {
+        return false;
+    }
+
     /**
      * A method that executes code that will be fired by the keyword (FIRE ASYNC)
      *
      * @param arguments the arguments that are used to execute the keyword (empty if no arguments are needed)
      * @param context context that can assist execution that cannot be cached and must be parsed during runtime separately
+     * @throws CancellationException if the execution this function is a part of was cancelled
      */
     @Nullable
     public final T execute(@NotNull ImmutableList<Object> arguments, @NotNull RuntimeContext context) throws ExecutionException {
+        return this.execute(arguments, context, null);
+    }
+
+    /**
+     * A method that executes code that will be fired by the keyword while recording its main thread timings (FIRE ASYNC)
+     *
+     * @param arguments the arguments that are used to execute the keyword (empty if no arguments are needed)
+     * @param context context that can assist execution that cannot be cached and must be parsed during runtime separately
+     * @param timings the timings to record into (null if the call is not being profiled)
+     * @throws CancellationException if the execution this function is a part of was cancelled
+     */
+    @Nullable
+    final T execute(@NotNull ImmutableList<Object> arguments, @NotNull RuntimeContext context, @Nullable FunctionTimings timings) throws ExecutionException {
         if (Bukkit.isPrimaryThread()) {
             throw new IllegalStateException("The function execute method cannot be called from the main thread!");
         }
 
+        ExecutionToken token = context.getExecutionToken();
+        this.checkCancelled(token);
+
         if (this.isAsync()) {
             return this.call(arguments, context);
         }
 
-        Future<T> future = Bukkit.getScheduler().callSyncMethod(InnovativeItems.getInstance(), () -> this.call(arguments, context));
+        Future<T> future;
+        if (timings == null) {
+            future = Bukkit.getScheduler().callSyncMethod(InnovativeItems.getInstance(), () -> this.call(arguments, context));
+        } else {
+            long submitted = System.nanoTime();
+
+            future = Bukkit.getScheduler().callSyncMethod(InnovativeItems.getInstance(), () -> {
+                long start = System.nanoTime();
+                timings.setWait(start - submitted);
+
+                try {
+                    return this.call(arguments, context);
+                } finally {
+                    timings.setMain(System.nanoTime() - start);
+                }
+            });
+        }
+
+        if (token != null) {
+            token.setPending(future);
+        }
 
         try {
             return future.get();
-        } catch (InterruptedException | ExecutionException e) {
+        } catch (CancellationException | InterruptedException e) {
+            this.checkCancelled(token);
+            throw new ExecutionException("The value of " + this.identifier + " was unable to be initialized in time.", e);
+        } catch (ExecutionException e) {
             throw new ExecutionException("The value of " + this.identifier + " was unable to be initialized in time.", e);
+        } finally {
+            if (token != null) {
+                token.setPending(null);
+            }
+        }
+    }
+
+    /**
+     * A method used to stop execution if the provided execution token was cancelled
+     *
+     * @param token the token of the current execution (null if it is not being tracked)
+     * @throws CancellationException if the token was cancelled
+     */
+    private void checkCancelled(@Nullable ExecutionToken token) {
+        if (token != null && token.isCancelled()) {
+            throw new CancellationException("The " + this.identifier + " function was not executed because the " + token.getAbility() + " ability was cancelled (" + token.getReason() + ")");
         }
     }
 }
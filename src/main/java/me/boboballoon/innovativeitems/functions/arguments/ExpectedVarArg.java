@@ -11,6 +11,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * A class that represents a var-arg as the last argument in a function that returns a list of the object returned in the constructors functional interface
@@ -34,10 +35,21 @@ public final class ExpectedVarArg implements ExpectedArguments {
     @Override
     @Nullable
     public List<Object> getValue(@NotNull String rawValue, @NotNull FunctionContext context) {
-        String[] args = Arrays.stream(rawValue.split(",")).map(String::trim).toArray(String[]::new);
-        List<Object> parsed = new ArrayList<>(args.length);
+        return this.getValues(Arrays.stream(rawValue.split(",")).map(String::trim).collect(Collectors.toList()), context);
+    }
+
+    /**
+     * A method used to parse var-arg values that were already split by the line parser, so commas inside quoted values are kept
+     *
+     * @param rawValues the raw values of the var-arg in the configuration file
+     * @param context the context in which the function was parsed
+     * @return the parsed values, null if an error should be thrown
+     */
+    @Nullable
+    public List<Object> getValues(@NotNull List<String> rawValues, @NotNull FunctionContext context) {
+        List<Object> parsed = new ArrayList<>(rawValues.size());
 
-        for (String raw : args) {
+        for (String raw : rawValues) {
             Object parse;
             try {
                 parse = this.parse.getValue(raw, context);
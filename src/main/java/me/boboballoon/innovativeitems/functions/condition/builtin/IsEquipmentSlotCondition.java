@@ -0,0 +1,35 @@
+package me.boboballoon.innovativeitems.functions.condition.builtin;
+
+import com.google.common.collect.ImmutableList;
+import me.boboballoon.innovativeitems.functions.arguments.ExpectedEnum;
+import me.boboballoon.innovativeitems.functions.condition.Condition;
+import me.boboballoon.innovativeitems.functions.context.EquipmentContext;
+import me.boboballoon.innovativeitems.functions.context.RuntimeContext;
+import me.boboballoon.innovativeitems.util.RevisedEquipmentSlot;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Class that represents a condition in an ability config file that checks which equipment slot an equip, unequip, hold-start or hold-end trigger fired for
+ */
+public class IsEquipmentSlotCondition extends Condition {
+    public IsEquipmentSlotCondition() {
+        super("isequipmentslot",
+                new ExpectedEnum<>(RevisedEquipmentSlot.class, "equipment slot"));
+    }
+
+    @Override
+    protected Boolean call(@NotNull ImmutableList<Object> arguments, @NotNull RuntimeContext context) {
+        if (!(context instanceof EquipmentContext)) {
+            return false;
+        }
+
+        RevisedEquipmentSlot expected = (RevisedEquipmentSlot) arguments.get(0);
+
+        return expected == RevisedEquipmentSlot.ANY || expected == ((EquipmentContext) context).getSlot();
+    }
+
+    @Override
+    public boolean isAsync() {
+        return true;
+    }
+}
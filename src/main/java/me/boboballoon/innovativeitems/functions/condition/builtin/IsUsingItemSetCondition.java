@@ -0,0 +1,66 @@
+package me.boboballoon.innovativeitems.functions.condition.builtin;
+
+import com.google.common.collect.ImmutableList;
+import me.boboballoon.innovativeitems.InnovativeItems;
+import me.boboballoon.innovativeitems.functions.FunctionTargeter;
+import me.boboballoon.innovativeitems.functions.arguments.ExpectedPrimitive;
+import me.boboballoon.innovativeitems.functions.arguments.ExpectedTargeters;
+import me.boboballoon.innovativeitems.functions.condition.Condition;
+import me.boboballoon.innovativeitems.functions.context.RuntimeContext;
+import me.boboballoon.innovativeitems.functions.context.interfaces.EntityContext;
+import me.boboballoon.innovativeitems.util.LogUtil;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Class that represents a condition in an ability config file that checks if the target has enough pieces of an item set equipped
+ */
+public class IsUsingItemSetCondition extends Condition {
+    public IsUsingItemSetCondition() {
+        super("isusingitemset",
+                new ExpectedTargeters(FunctionTargeter.PLAYER, FunctionTargeter.ENTITY),
+                new ExpectedPrimitive(ExpectedPrimitive.PrimitiveType.STRING),
+                new ExpectedPrimitive(ExpectedPrimitive.PrimitiveType.INTEGER, "piece amount"));
+    }
+
+    @Override
+    protected Boolean call(@NotNull ImmutableList<Object> arguments, @NotNull RuntimeContext context) {
+        String name = (String) arguments.get(1);
+
+        if (InnovativeItems.getInstance().getItemCache().getItemSet(name) == null) {
+            LogUtil.log(LogUtil.Level.WARNING, "The provided item set name on the " + this.getIdentifier() + " condition on the " + context.getAbilityName() + " ability cannot resolve an item set!");
+            return false;
+        }
+
+        Player target = null;
+        FunctionTargeter targeter = (FunctionTargeter) arguments.get(0);
+
+        if (targeter == FunctionTargeter.PLAYER) {
+            target = context.getPlayer();
+        }
+
+        if (targeter == FunctionTargeter.ENTITY && context instanceof EntityContext) {
+            EntityContext entityContext = (EntityContext) context;
+
+            if (!(entityContext.getEntity() instanceof Player)) {
+                return false;
+            }
+
+            target = (Player) entityContext.getEntity();
+        }
+
+        if (target == null) {
+            return false;
+        }
+
+        int pieces = (int) arguments.get(2);
+
+        //the tracker keeps the piece count up to date, so no inventory has to be read here
+        return InnovativeItems.getInstance().getItemSetTracker().isActive(target.getUniqueId(), name, pieces);
+    }
+
+    @Override
+    public boolean isAsync() {
+        return true;
+    }
+}
@@ -0,0 +1,43 @@
+package me.boboballoon.innovativeitems.functions.context;
+
+import me.boboballoon.innovativeitems.functions.context.interfaces.ItemContext;
+import me.boboballoon.innovativeitems.items.ability.Ability;
+import me.boboballoon.innovativeitems.items.item.CustomItem;
+import me.boboballoon.innovativeitems.util.RevisedEquipmentSlot;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A class that represents context where a custom item entered or left an equipment slot that can assist execution that cannot be cached and must be parsed during runtime separately
+ */
+public class EquipmentContext extends RuntimeContext implements ItemContext {
+    private final CustomItem item;
+    private final RevisedEquipmentSlot slot;
+
+    public EquipmentContext(@NotNull Player player, @NotNull Ability ability, @NotNull CustomItem item, @NotNull RevisedEquipmentSlot slot) {
+        super(player, ability);
+        this.item = item;
+        this.slot = slot;
+    }
+
+    /**
+     * A method that returns the custom item that entered or left the slot
+     *
+     * @return the custom item that was involved with this context
+     */
+    @Override
+    @NotNull
+    public CustomItem getItem() {
+        return this.item;
+    }
+
+    /**
+     * A method that returns the equipment slot the custom item entered or left
+     *
+     * @return the equipment slot the custom item entered or left
+     */
+    @NotNull
+    public RevisedEquipmentSlot getSlot() {
+        return this.slot;
+    }
+}
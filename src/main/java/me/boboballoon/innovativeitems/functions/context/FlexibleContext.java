@@ -2,13 +2,16 @@ package me.boboballoon.innovativeitems.functions.context;
 
 import com.google.common.collect.ImmutableList;
 import me.boboballoon.innovativeitems.InnovativeItems;
+import me.boboballoon.innovativeitems.functions.FunctionTargeter;
 import me.boboballoon.innovativeitems.functions.context.interfaces.BlockContext;
 import me.boboballoon.innovativeitems.functions.context.interfaces.EntityContext;
 import me.boboballoon.innovativeitems.functions.context.interfaces.ItemContext;
 import me.boboballoon.innovativeitems.items.InnovativeCache;
 import me.boboballoon.innovativeitems.items.ability.Ability;
+import me.boboballoon.innovativeitems.items.ability.ExecutionToken;
 import me.boboballoon.innovativeitems.items.item.CustomItem;
 import me.boboballoon.innovativeitems.util.LogUtil;
+import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Entity;
@@ -19,15 +22,25 @@ import org.bukkit.inventory.PlayerInventory;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * A class that represents a runtime context where no field can be null
+ * (fallback values are only resolved once per context and are always resolved on the main thread)
  */
 public final class FlexibleContext extends RuntimeContext implements EntityContext, BlockContext, ItemContext {
-    private final LivingEntity entity;
-    private final Block block;
-    private final CustomItem item;
+    private static final long FALLBACK_TIMEOUT = 5000; //milliseconds, only reached while the main thread is stalled
+
+    private volatile LivingEntity entity;
+    private volatile Block block;
+    private volatile CustomItem item;
 
     public FlexibleContext(@NotNull Player player, @NotNull Ability ability, @Nullable LivingEntity entity, @Nullable Block block, @Nullable CustomItem item) {
         super(player, ability);
@@ -41,6 +54,7 @@ public final class FlexibleContext extends RuntimeContext implements EntityConte
                 delegate instanceof EntityContext ? ((EntityContext) delegate).getEntity() : null,
                 delegate instanceof BlockContext ? ((BlockContext) delegate).getBlock() : null,
                 delegate instanceof ItemContext ? ((ItemContext) delegate).getItem() : null);
+        this.setExecutionToken(delegate.getExecutionToken());
     }
 
     public FlexibleContext(@NotNull Player player, @NotNull Ability ability) {
@@ -50,10 +64,70 @@ public final class FlexibleContext extends RuntimeContext implements EntityConte
     @Override
     @NotNull
     public LivingEntity getEntity() {
-        if (this.entity != null) {
-            return this.entity;
+        LivingEntity entity = this.entity;
+
+        if (entity == null) {
+            entity = this.resolve(this::findEntity);
+            this.entity = entity;
+        }
+
+        return entity;
+    }
+
+    @Override
+    @NotNull
+    public Block getBlock() {
+        Block block = this.block;
+
+        if (block == null) {
+            block = this.resolve(this::findBlock);
+            this.block = block;
         }
 
+        return block;
+    }
+
+    @Override
+    @NotNull
+    public CustomItem getItem() {
+        CustomItem item = this.item;
+
+        if (item == null) {
+            item = this.resolve(this::findItem);
+            this.item = item;
+        }
+
+        return item;
+    }
+
+    /**
+     * A method used to resolve the fallback values of the provided targeters and the fallback item ahead of time (should be called on the main thread when the ability is triggered)
+     *
+     * @param targeters the targeters that the ability will use during execution
+     * @param item true if a function of the ability reads the item of an item context
+     */
+    public void resolve(@NotNull Collection<FunctionTargeter> targeters, boolean item) {
+        if (targeters.contains(FunctionTargeter.ENTITY)) {
+            this.getEntity();
+        }
+
+        if (targeters.contains(FunctionTargeter.BLOCK)) {
+            this.getBlock();
+        }
+
+        //no targeter refers to the item, so the functions say if they need it, finding it scans the inventory and reads the nbt of every stack
+        if (item) {
+            this.getItem();
+        }
+    }
+
+    /**
+     * A method used to find the fallback entity of this context (must be called on the main thread)
+     *
+     * @return the fallback entity of this context
+     */
+    @NotNull
+    private LivingEntity findEntity() {
         Player player = this.getPlayer();
 
         Iterator<Entity> entities = player.getNearbyEntities(5, 5, 5).stream().filter(e -> e instanceof LivingEntity).iterator();
@@ -65,23 +139,23 @@ public final class FlexibleContext extends RuntimeContext implements EntityConte
         return player;
     }
 
-    @Override
+    /**
+     * A method used to find the fallback block of this context (must be called on the main thread)
+     *
+     * @return the fallback block of this context
+     */
     @NotNull
-    public Block getBlock() {
-        if (this.block != null) {
-            return this.block;
-        }
-
+    private Block findBlock() {
         return this.getPlayer().getLocation().getBlock();
     }
 
-    @Override
+    /**
+     * A method used to find the fallback custom item of this context (must be called on the main thread)
+     *
+     * @return the fallback custom item of this context
+     */
     @NotNull
-    public CustomItem getItem() {
-        if (this.item != null) {
-            return this.item;
-        }
-
+    private CustomItem findItem() {
         InnovativeCache cache = InnovativeItems.getInstance().getItemCache();
 
         //check if player has an item in their inventory
@@ -131,6 +205,48 @@ public final class FlexibleContext extends RuntimeContext implements EntityConte
         return null;
     }
 
+    /**
+     * A method used to compute a fallback value on the main thread, waiting a limited time for the result if called from another thread
+     *
+     * @param fallback the method used to compute the fallback value
+     * @param <T> the type of the fallback value
+     * @return the fallback value
+     * @throws CancellationException if the execution this context belongs to was cancelled while waiting
+     * @throws IllegalStateException if the fallback value could not be resolved in time
+     */
+    @NotNull
+    private <T> T resolve(@NotNull Callable<T> fallback) {
+        if (Bukkit.isPrimaryThread()) {
+            try {
+                return fallback.call();
+            } catch (Exception e) {
+                throw new IllegalStateException("A fallback value of a flexible context was unable to be resolved!", e);
+            }
+        }
+
+        ExecutionToken token = this.getExecutionToken();
+        Future<T> future = Bukkit.getScheduler().callSyncMethod(InnovativeItems.getInstance(), fallback);
+
+        if (token != null) {
+            token.setPending(future); //lets the watchdog cancel the wait
+        }
+
+        try {
+            return future.get(FALLBACK_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (CancellationException | InterruptedException e) {
+            throw new CancellationException("A fallback value of a flexible context was not resolved because the execution was cancelled");
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            throw new IllegalStateException("A fallback value of a flexible context was unable to be resolved on the main thread within " + FALLBACK_TIMEOUT + "ms!");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A fallback value of a flexible context was unable to be resolved on the main thread!", e.getCause());
+        } finally {
+            if (token != null) {
+                token.setPending(null);
+            }
+        }
+    }
+
     /**
      * A method used to wrap a runtime context and convert it into an instance of the flexible context class
      *
@@ -1,9 +1,11 @@
 package me.boboballoon.innovativeitems.functions.context;
 
 import me.boboballoon.innovativeitems.items.ability.Ability;
+import me.boboballoon.innovativeitems.items.ability.ExecutionToken;
 import me.boboballoon.innovativeitems.items.ability.trigger.AbilityTrigger;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * A class that represents context that can assist execution that cannot be cached and must be parsed during runtime separately
@@ -11,6 +13,7 @@ import org.jetbrains.annotations.NotNull;
 public class RuntimeContext {
     private final Player player;
     private Ability ability;
+    private volatile ExecutionToken token;
 
     /**
      * A constructor that builds the runtime context
@@ -67,4 +70,23 @@ public class RuntimeContext {
     public final AbilityTrigger<?, ?> getAbilityTrigger() {
         return this.ability.getTrigger();
     }
+
+    /**
+     * A method that returns the token of the execution this context is being used in
+     *
+     * @return the token of the execution this context is being used in (null if the context is not being executed)
+     */
+    @Nullable
+    public final ExecutionToken getExecutionToken() {
+        return this.token;
+    }
+
+    /**
+     * A method used to set the token of the execution this context is being used in
+     *
+     * @param token the token of the execution this context is being used in
+     */
+    public final void setExecutionToken(@Nullable ExecutionToken token) {
+        this.token = token;
+    }
 }
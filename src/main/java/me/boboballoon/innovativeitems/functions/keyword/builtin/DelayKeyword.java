@@ -21,7 +21,7 @@ public class DelayKeyword extends Keyword {
 
         try {
             Thread.sleep(delay);
-        } catch (InterruptedException ignore) {}
+        } catch (InterruptedException ignore) {} //the execution was cancelled, the next function will stop it
     }
 
     @Override
@@ -6,6 +6,7 @@ import me.boboballoon.innovativeitems.functions.arguments.ExpectedPrimitive;
 import me.boboballoon.innovativeitems.functions.context.RuntimeContext;
 import me.boboballoon.innovativeitems.functions.keyword.Keyword;
 import me.boboballoon.innovativeitems.items.ability.Ability;
+import me.boboballoon.innovativeitems.items.ability.ExecutionToken;
 import me.boboballoon.innovativeitems.items.ability.trigger.AbilityTrigger;
 import me.boboballoon.innovativeitems.util.LogUtil;
 import org.jetbrains.annotations.NotNull;
@@ -46,7 +47,13 @@ public class LoopKeyword extends Keyword {
         Ability currentAbility = context.getAbility();
 
         context.setAbility(ability);
+        ExecutionToken token = context.getExecutionToken();
+
         for (int i = 0; i < loops; i++) {
+            if (token != null && token.isCancelled()) {
+                break;
+            }
+
             ability.execute(context);
         }
         context.setAbility(currentAbility);
@@ -12,7 +12,9 @@ import me.boboballoon.innovativeitems.functions.keyword.Keyword;
 import me.boboballoon.innovativeitems.items.item.CustomItem;
 import me.boboballoon.innovativeitems.util.LogUtil;
 import me.boboballoon.innovativeitems.util.RevisedEquipmentSlot;
+import org.bukkit.Bukkit;
 import org.bukkit.Material;
+import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
@@ -32,7 +34,7 @@ public class SetEquipmentSlotKeyword extends Keyword {
 
     @Override
     protected void calling(@NotNull ImmutableList<Object> arguments, @NotNull RuntimeContext context) {
-        Player target = null;
+        LivingEntity target = null;
         FunctionTargeter rawTarget = (FunctionTargeter) arguments.get(0);
 
         if (rawTarget == FunctionTargeter.PLAYER) {
@@ -40,13 +42,11 @@ public class SetEquipmentSlotKeyword extends Keyword {
         }
 
         if (rawTarget == FunctionTargeter.ENTITY && context instanceof EntityContext) {
-            EntityContext entityContext = (EntityContext) context;
-
-            if (!(entityContext.getEntity() instanceof Player)) {
-                return;
-            }
+            target = ((EntityContext) context).getEntity();
+        }
 
-            target = (Player) entityContext.getEntity();
+        if (target == null) {
+            return;
         }
 
         String itemName = (String) arguments.get(1);
@@ -60,7 +60,21 @@ public class SetEquipmentSlotKeyword extends Keyword {
             return;
         }
 
-        target.getInventory().setItem(equipmentSlot.getSlot(), item);
+        if (target instanceof Player) {
+            ((Player) target).getInventory().setItem(equipmentSlot.getSlot(), item);
+            return;
+        }
+
+        //mobs are indexed right after their equipment is set, so their custom items can fire mob triggers
+        LivingEntity mob = target;
+        Bukkit.getScheduler().runTask(InnovativeItems.getInstance(), () -> {
+            if (!mob.isValid() || mob.getEquipment() == null) {
+                return;
+            }
+
+            mob.getEquipment().setItem(equipmentSlot.getSlot(), item);
+            InnovativeItems.getInstance().getMobEquipmentIndex().update(mob);
+        });
     }
 
     @Override
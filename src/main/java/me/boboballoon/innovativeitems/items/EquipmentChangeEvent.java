@@ -0,0 +1,77 @@
+package me.boboballoon.innovativeitems.items;
+
+import me.boboballoon.innovativeitems.items.item.CustomItem;
+import me.boboballoon.innovativeitems.util.RevisedEquipmentSlot;
+import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.player.PlayerEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An event that is called by the equipment index after the custom item in one of a player's armor or hand slots has changed
+ */
+public final class EquipmentChangeEvent extends PlayerEvent {
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    private final RevisedEquipmentSlot slot;
+    private final CustomItem previous;
+    private final CustomItem current;
+
+    public EquipmentChangeEvent(@NotNull Player player, @NotNull RevisedEquipmentSlot slot, @Nullable CustomItem previous, @Nullable CustomItem current) {
+        super(player);
+        this.slot = slot;
+        this.previous = previous;
+        this.current = current;
+    }
+
+    /**
+     * A method that returns the slot that changed
+     *
+     * @return the slot that changed
+     */
+    @NotNull
+    public RevisedEquipmentSlot getSlot() {
+        return this.slot;
+    }
+
+    /**
+     * A method that returns the custom item that was in the slot before the change
+     *
+     * @return the custom item that was in the slot before the change (null if there was none)
+     */
+    @Nullable
+    public CustomItem getPrevious() {
+        return this.previous;
+    }
+
+    /**
+     * A method that returns the custom item that is in the slot after the change
+     *
+     * @return the custom item that is in the slot after the change (null if there is none)
+     */
+    @Nullable
+    public CustomItem getCurrent() {
+        return this.current;
+    }
+
+    /**
+     * A method that returns true if the slot that changed is an armor slot
+     *
+     * @return true if the slot that changed is an armor slot
+     */
+    public boolean isArmor() {
+        return this.slot != RevisedEquipmentSlot.HAND && this.slot != RevisedEquipmentSlot.OFF_HAND;
+    }
+
+    @NotNull
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    @NotNull
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+}
@@ -0,0 +1,326 @@
+package me.boboballoon.innovativeitems.items;
+
+import me.boboballoon.innovativeitems.InnovativeItems;
+import me.boboballoon.innovativeitems.items.ability.Ability;
+import me.boboballoon.innovativeitems.items.ability.trigger.builtin.aura.AuraTrigger;
+import me.boboballoon.innovativeitems.items.ability.trigger.builtin.movement.MovementTrigger;
+import me.boboballoon.innovativeitems.items.item.CustomItem;
+import me.boboballoon.innovativeitems.util.LogUtil;
+import me.boboballoon.innovativeitems.util.RevisedEquipmentSlot;
+import me.boboballoon.innovativeitems.util.armorevent.ArmorEquipEvent;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerItemBreakEvent;
+import org.bukkit.event.player.PlayerItemConsumeEvent;
+import org.bukkit.event.player.PlayerItemHeldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerSwapHandItemsEvent;
+import org.bukkit.inventory.PlayerInventory;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A class used to keep track of the custom items every online player has equipped, updated from equipment changes instead of polling and reporting each change as an equipment change event
+ */
+public final class EquipmentIndex implements Listener {
+    public static final int SLOTS = 6; //the amount of slots in RevisedEquipmentSlot excluding ANY
+    private static final long FULL_RESCAN_INTERVAL = 100L; //catches equipment changes that no event reports (commands and other plugins)
+
+    private final Map<UUID, CustomItem[]> equipment;
+    private final Set<UUID> movementPlayers;
+    private final Set<UUID> auraPlayers;
+    private final Set<UUID> dirty;
+    private boolean flushScheduled;
+
+    public EquipmentIndex() {
+        this.equipment = new ConcurrentHashMap<>();
+        this.movementPlayers = ConcurrentHashMap.newKeySet();
+        this.auraPlayers = ConcurrentHashMap.newKeySet();
+        this.dirty = new HashSet<>();
+        this.flushScheduled = false;
+        LogUtil.log(LogUtil.Level.INFO, "New equipment index initialized!");
+    }
+
+    /**
+     * A method used to start the periodic full rescan (must be called on the main thread)
+     */
+    public void start() {
+        this.rescanAll();
+        Bukkit.getScheduler().runTaskTimer(InnovativeItems.getInstance(), this::rescanAll, FULL_RESCAN_INTERVAL, FULL_RESCAN_INTERVAL);
+    }
+
+    /**
+     * A method that returns the custom items a player had equipped during the last scan, indexed by the ordinal of RevisedEquipmentSlot
+     *
+     * @param uuid the uuid of the player
+     * @return the custom items a player had equipped (null if the player was never scanned, elements can be null)
+     */
+    @Nullable
+    public CustomItem[] getEquipment(@NotNull UUID uuid) {
+        CustomItem[] items = this.equipment.get(uuid);
+        return items != null ? items.clone() : null;
+    }
+
+    /**
+     * A method that returns the players who have at least one custom item with a movement ability equipped (safe to call async)
+     *
+     * @return the players who have at least one custom item with a movement ability equipped
+     */
+    @NotNull
+    public Set<UUID> getMovementPlayers() {
+        return Collections.unmodifiableSet(this.movementPlayers);
+    }
+
+    /**
+     * A method that returns the players who have at least one custom item with an aura ability equipped (safe to call async)
+     *
+     * @return the players who have at least one custom item with an aura ability equipped
+     */
+    @NotNull
+    public Set<UUID> getAuraPlayers() {
+        return Collections.unmodifiableSet(this.auraPlayers);
+    }
+
+    /**
+     * A method used to rescan a player on the next tick, after the change that caused the call has been applied
+     *
+     * @param player the player whose equipment may have changed
+     */
+    public void markDirty(@NotNull Player player) {
+        this.dirty.add(player.getUniqueId());
+
+        if (this.flushScheduled) {
+            return;
+        }
+
+        this.flushScheduled = true;
+        Bukkit.getScheduler().runTask(InnovativeItems.getInstance(), this::flush);
+    }
+
+    /**
+     * A method used to rescan the equipment of every online player (must be called on the main thread)
+     */
+    public void rescanAll() {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            this.rescan(player);
+        }
+    }
+
+    /**
+     * A method used to rescan the equipment of a player (must be called on the main thread)
+     *
+     * @param player the player to rescan
+     * @return the custom items the player has equipped, indexed by the ordinal of RevisedEquipmentSlot (must not be modified, elements can be null)
+     */
+    @NotNull
+    public CustomItem[] rescan(@NotNull Player player) {
+        InnovativeCache cache = InnovativeItems.getInstance().getItemCache();
+        PlayerInventory inventory = player.getInventory();
+        RevisedEquipmentSlot[] slots = RevisedEquipmentSlot.values();
+        CustomItem[] items = new CustomItem[SLOTS];
+        boolean movement = false;
+        boolean aura = false;
+
+        for (int i = 0; i < SLOTS; i++) {
+            CustomItem item = cache.fromItemStack(inventory.getItem(slots[i].getSlot()));
+            items[i] = item;
+            movement |= item != null && EquipmentIndex.hasAbility(item, MovementTrigger.class);
+            aura |= item != null && EquipmentIndex.hasAbility(item, AuraTrigger.class);
+        }
+
+        UUID uuid = player.getUniqueId();
+        CustomItem[] previous = this.equipment.put(uuid, items);
+        InnovativeItems.getInstance().getAbilityTimerManager().update(uuid, items);
+        InnovativeItems.getInstance().getItemSetTracker().update(player, previous, items);
+        InnovativeItems.getInstance().getPassiveEffectEngine().update(player, items);
+        EquipmentIndex.setMember(this.movementPlayers, uuid, movement);
+        EquipmentIndex.setMember(this.auraPlayers, uuid, aura);
+
+        if (EquipmentChangeEvent.getHandlerList().getRegisteredListeners().length == 0) {
+            return items;
+        }
+
+        //only slots whose custom item actually changed are reported, rescans that find the same items cost nothing here
+        for (int i = 0; i < SLOTS; i++) {
+            CustomItem before = previous != null ? previous[i] : null;
+            CustomItem after = items[i];
+
+            if (before == null ? after == null : after != null && before.getIdentifier().equals(after.getIdentifier())) {
+                continue;
+            }
+
+            Bukkit.getPluginManager().callEvent(new EquipmentChangeEvent(player, slots[i], before, after));
+        }
+
+        return items;
+    }
+
+    /**
+     * A method used to rescan every player marked as dirty
+     */
+    private void flush() {
+        this.flushScheduled = false;
+
+        for (UUID uuid : this.dirty) {
+            Player player = Bukkit.getPlayer(uuid);
+
+            if (player != null) {
+                this.rescan(player);
+            }
+        }
+
+        this.dirty.clear();
+    }
+
+    /**
+     * A method used to check if a custom item has at least one ability fired by a trigger of the provided type
+     *
+     * @param item the custom item
+     * @param type the class of the trigger
+     * @return true if the custom item has at least one ability fired by a trigger of the provided type
+     */
+    private static boolean hasAbility(@NotNull CustomItem item, @NotNull Class<?> type) {
+        for (Ability ability : item.getAbilities()) {
+            if (type.isInstance(ability.getTrigger())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * A util method used to add or remove a player from one of the trigger gates
+     */
+    private static void setMember(@NotNull Set<UUID> players, @NotNull UUID uuid, boolean member) {
+        if (member) {
+            players.add(uuid);
+        } else {
+            players.remove(uuid);
+        }
+    }
+
+    /**
+     * A util method used to mark a human entity as dirty if it is a player
+     */
+    private void markDirty(@NotNull HumanEntity entity) {
+        if (entity instanceof Player) {
+            this.markDirty((Player) entity);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        this.markDirty(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        Player player = event.getPlayer();
+        UUID uuid = player.getUniqueId();
+        CustomItem[] items = this.equipment.remove(uuid);
+
+        //quitting takes every item off, so abilities that undo what an equip or hold-start ability did still run
+        if (items != null && EquipmentChangeEvent.getHandlerList().getRegisteredListeners().length != 0) {
+            RevisedEquipmentSlot[] slots = RevisedEquipmentSlot.values();
+
+            for (int i = 0; i < SLOTS; i++) {
+                if (items[i] != null) {
+                    Bukkit.getPluginManager().callEvent(new EquipmentChangeEvent(player, slots[i], items[i], null));
+                }
+            }
+        }
+
+        this.movementPlayers.remove(uuid);
+        this.auraPlayers.remove(uuid);
+        this.dirty.remove(uuid);
+        InnovativeItems.getInstance().getAbilityTimerManager().remove(uuid);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onArmorEquip(ArmorEquipEvent event) {
+        this.markDirty(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onItemHeld(PlayerItemHeldEvent event) {
+        this.markDirty(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onSwapHands(PlayerSwapHandItemsEvent event) {
+        this.markDirty(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryClick(InventoryClickEvent event) {
+        this.markDirty(event.getWhoClicked());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryDrag(InventoryDragEvent event) {
+        this.markDirty(event.getWhoClicked());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInventoryClose(InventoryCloseEvent event) {
+        this.markDirty(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onItemDrop(PlayerDropItemEvent event) {
+        this.markDirty(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onItemPickup(EntityPickupItemEvent event) {
+        if (event.getEntity() instanceof Player) {
+            this.markDirty((Player) event.getEntity());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onItemBreak(PlayerItemBreakEvent event) {
+        this.markDirty(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onItemConsume(PlayerItemConsumeEvent event) {
+        this.markDirty(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        this.markDirty(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerDeath(PlayerDeathEvent event) {
+        this.markDirty(event.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerRespawn(PlayerRespawnEvent event) {
+        this.markDirty(event.getPlayer());
+    }
+}
@@ -2,11 +2,11 @@ package me.boboballoon.innovativeitems.items;
 
 import com.google.common.collect.ImmutableList;
 import de.tr7zw.nbtapi.NBTItem;
-import me.boboballoon.innovativeitems.InnovativeItems;
 import me.boboballoon.innovativeitems.items.ability.Ability;
 import me.boboballoon.innovativeitems.items.item.CustomItem;
+import me.boboballoon.innovativeitems.items.set.ItemSet;
 import me.boboballoon.innovativeitems.util.LogUtil;
-import org.bukkit.Bukkit;
+import org.bukkit.Keyed;
 import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.Recipe;
@@ -21,10 +21,16 @@ import java.util.*;
 public final class InnovativeCache {
     private final Map<String, Ability> abilities;
     private final Map<String, CustomItem> items;
+    private final Map<String, ItemSet> sets;
+    private final RecipeBatcher recipeBatcher;
+    private volatile boolean deferRecipes;
 
     public InnovativeCache() {
         this.abilities = new LinkedHashMap<>(); //preserve order
         this.items = new LinkedHashMap<>();
+        this.sets = new LinkedHashMap<>();
+        this.recipeBatcher = new RecipeBatcher();
+        this.deferRecipes = false;
     }
 
     /**
@@ -58,28 +64,66 @@ public final class InnovativeCache {
 
         this.items.put(name, item);
 
-        if (item.getRecipes() == null) {
+        if (item.getRecipes() == null || this.deferRecipes) {
             return;
         }
 
-        Runnable task = () -> {
-            for (Recipe recipe : item.getRecipes()) {
-                try {
-                    Bukkit.addRecipe(recipe);
-                } catch (IllegalStateException e) {
-                    LogUtil.log(LogUtil.Level.INFO, "It seems like there was a duplicate recipe registered for an item... Normally this is not a problem but if a bug occurs this might be the cause...");
-                    if (InnovativeItems.getInstance().getConfigManager().getDebugLevel() >= LogUtil.Level.DEV.getDebugLevel()) {
-                        e.printStackTrace();
-                    }
-                }
+        for (Recipe recipe : item.getRecipes()) {
+            this.recipeBatcher.add(recipe);
+        }
+    }
+
+    /**
+     * A method used to remove an ability from the cache
+     *
+     * @param name the name (id) of the ability
+     * @return the ability that was removed (null if not present in cache)
+     */
+    @Nullable
+    public Ability unregisterAbility(@NotNull String name) {
+        return this.abilities.remove(name);
+    }
+
+    /**
+     * A method used to remove an item and its crafting recipes from the cache
+     *
+     * @param name the name (id) of the item
+     * @return the item that was removed (null if not present in cache)
+     */
+    @Nullable
+    public CustomItem unregisterItem(@NotNull String name) {
+        CustomItem item = this.items.remove(name);
+
+        if (item == null || item.getRecipes() == null) {
+            return item;
+        }
+
+        for (Recipe recipe : item.getRecipes()) {
+            if (!(recipe instanceof Keyed)) {
+                LogUtil.log(LogUtil.Level.DEV, "An internal error has occurred, the recipe registered on the " + name + " item does not implement the keyed interface!");
+                continue;
             }
-        };
 
-        if (Bukkit.isPrimaryThread()) {
-            task.run();
-        } else {
-            Bukkit.getScheduler().runTask(InnovativeItems.getInstance(), task);
+            this.recipeBatcher.remove(((Keyed) recipe).getKey());
+        }
+
+        return item;
+    }
+
+    /**
+     * A method used to register a new item set in the cache
+     *
+     * @param set the item set
+     */
+    public void registerItemSet(@NotNull ItemSet set) {
+        String name = set.getIdentifier();
+
+        if (this.sets.containsKey(name)) {
+            LogUtil.log(LogUtil.Level.WARNING, "Item set with the name of " + name + ", is already registered! Skipping...");
+            return;
         }
+
+        this.sets.put(name, set);
     }
 
     /**
@@ -104,6 +148,17 @@ public final class InnovativeCache {
         return this.items.get(name);
     }
 
+    /**
+     * A method used to get an item set already registered in the cache
+     *
+     * @param name the name (id) of the item set
+     * @return the item set (null if not present in cache)
+     */
+    @Nullable
+    public ItemSet getItemSet(@NotNull String name) {
+        return this.sets.get(name);
+    }
+
     /**
      * A method used to get a custom item from the cache via an itemstack
      *
@@ -169,12 +224,39 @@ public final class InnovativeCache {
         return this.fromItemStacks(items, false);
     }
 
+    /**
+     * A method used to remove every item set from the cache
+     */
+    public void clearItemSets() {
+        this.sets.clear();
+    }
+
     /**
      * A method used to wipe all data currently in the cache
      */
     public void clearCache() {
         this.abilities.clear();
         this.items.clear();
+        this.sets.clear();
+    }
+
+    /**
+     * A method used to set whether newly registered items should leave their crafting recipes unregistered, used while reloading so recipes can be registered in a single batch afterwards
+     *
+     * @param deferRecipes true if newly registered items should leave their crafting recipes unregistered
+     */
+    public void setDeferRecipes(boolean deferRecipes) {
+        this.deferRecipes = deferRecipes;
+    }
+
+    /**
+     * A method that returns the batcher every crafting recipe change goes through
+     *
+     * @return the batcher every crafting recipe change goes through
+     */
+    @NotNull
+    public RecipeBatcher getRecipeBatcher() {
+        return this.recipeBatcher;
     }
 
     /**
@@ -206,4 +288,14 @@ public final class InnovativeCache {
     public ImmutableList<CustomItem> getItems() {
         return ImmutableList.copyOf(this.items.values());
     }
-}
\ No newline at end of file
+
+    /**
+     * A method that returns all of the registered item sets
+     *
+     * @return all of the registered item sets
+     */
+    @NotNull
+    public ImmutableList<ItemSet> getItemSets() {
+        return ImmutableList.copyOf(this.sets.values());
+    }
+}
@@ -0,0 +1,165 @@
+package me.boboballoon.innovativeitems.items;
+
+import me.boboballoon.innovativeitems.InnovativeItems;
+import me.boboballoon.innovativeitems.items.item.CustomItem;
+import me.boboballoon.innovativeitems.util.LogUtil;
+import me.boboballoon.innovativeitems.util.RevisedEquipmentSlot;
+import org.bukkit.Bukkit;
+import org.bukkit.NamespacedKey;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.entity.EntityRemoveEvent;
+import org.bukkit.event.world.EntitiesLoadEvent;
+import org.bukkit.inventory.EntityEquipment;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A class used to keep track of the custom items equipped by mobs, built when a mob is given custom items and kept until the mob is removed, so only those mobs pay trigger costs
+ */
+public final class MobEquipmentIndex implements Listener {
+    private final NamespacedKey key;
+    private final Map<UUID, CustomItem[]> holders;
+
+    public MobEquipmentIndex() {
+        this.key = new NamespacedKey(InnovativeItems.getInstance(), "custom-item-holder");
+        this.holders = new ConcurrentHashMap<>();
+        LogUtil.log(LogUtil.Level.INFO, "New mob equipment index initialized!");
+    }
+
+    /**
+     * A method used to index every loaded mob that was given custom items before the plugin was enabled (must be called on the main thread)
+     */
+    public void start() {
+        for (World world : Bukkit.getWorlds()) {
+            this.load(world.getLivingEntities());
+        }
+    }
+
+    /**
+     * A method that returns true if the entity is a mob with at least one custom item equipped (safe to call async)
+     *
+     * @param uuid the uuid of the entity
+     * @return true if the entity is a mob with at least one custom item equipped
+     */
+    public boolean isHolder(@NotNull UUID uuid) {
+        return this.holders.containsKey(uuid);
+    }
+
+    /**
+     * A method that returns the custom items a mob has equipped, indexed by the ordinal of RevisedEquipmentSlot
+     *
+     * @param uuid the uuid of the mob
+     * @return the custom items the mob has equipped (empty if the mob is not indexed, elements can be null)
+     */
+    @NotNull
+    public Iterable<CustomItem> getItems(@NotNull UUID uuid) {
+        CustomItem[] items = this.holders.get(uuid);
+        return items != null ? Arrays.asList(items) : Collections.emptyList();
+    }
+
+    /**
+     * A method that returns the amount of mobs currently indexed
+     *
+     * @return the amount of mobs currently indexed
+     */
+    public int size() {
+        return this.holders.size();
+    }
+
+    /**
+     * A method used to read the equipment of a mob after it has been changed by this plugin (must be called on the main thread)
+     *
+     * @param entity the mob
+     */
+    public void update(@NotNull LivingEntity entity) {
+        if (entity instanceof Player) {
+            return; //players are covered by the equipment index
+        }
+
+        EntityEquipment equipment = entity.getEquipment();
+        PersistentDataContainer container = entity.getPersistentDataContainer();
+
+        if (equipment == null) {
+            this.holders.remove(entity.getUniqueId());
+            container.remove(this.key);
+            return;
+        }
+
+        InnovativeCache cache = InnovativeItems.getInstance().getItemCache();
+        RevisedEquipmentSlot[] slots = RevisedEquipmentSlot.values();
+        CustomItem[] items = new CustomItem[EquipmentIndex.SLOTS];
+        boolean holder = false;
+
+        for (int i = 0; i < EquipmentIndex.SLOTS; i++) {
+            CustomItem item = cache.fromItemStack(equipment.getItem(slots[i].getSlot()));
+            items[i] = item;
+            holder |= item != null;
+        }
+
+        if (!holder) {
+            this.holders.remove(entity.getUniqueId());
+            container.remove(this.key);
+            return;
+        }
+
+        this.holders.put(entity.getUniqueId(), items);
+        //the flag survives chunk unloads and restarts, so loaded entities only have their equipment read when they were holders before
+        container.set(this.key, PersistentDataType.BYTE, (byte) 1);
+    }
+
+    /**
+     * A method used to read the equipment of every indexed mob again, after the custom items in the cache have changed (must be called on the main thread)
+     */
+    public void rescanAll() {
+        for (UUID uuid : this.holders.keySet()) {
+            Entity entity = Bukkit.getEntity(uuid);
+
+            if (entity instanceof LivingEntity && entity.isValid()) {
+                this.update((LivingEntity) entity);
+            } else {
+                this.holders.remove(uuid);
+            }
+        }
+    }
+
+    /**
+     * A util method used to index every flagged mob in a group of loaded entities
+     */
+    private void load(@NotNull Iterable<? extends Entity> entities) {
+        for (Entity entity : entities) {
+            if (entity instanceof LivingEntity && !(entity instanceof Player) && entity.getPersistentDataContainer().has(this.key, PersistentDataType.BYTE)) {
+                this.update((LivingEntity) entity);
+            }
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesLoad(EntitiesLoadEvent event) {
+        this.load(event.getEntities());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityDeath(EntityDeathEvent event) {
+        this.holders.remove(event.getEntity().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityRemove(EntityRemoveEvent event) {
+        this.holders.remove(event.getEntity().getUniqueId());
+    }
+}
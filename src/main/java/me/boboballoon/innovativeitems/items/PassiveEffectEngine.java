@@ -0,0 +1,161 @@
+package me.boboballoon.innovativeitems.items;
+
+import me.boboballoon.innovativeitems.InnovativeItems;
+import me.boboballoon.innovativeitems.items.item.CustomItem;
+import me.boboballoon.innovativeitems.util.LogUtil;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.potion.PotionEffect;
+import org.bukkit.potion.PotionEffectType;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A class used to keep the passive effects of equipped custom items applied, only sending changes instead of re-applying them on a timer
+ */
+public final class PassiveEffectEngine implements Listener {
+    public static final int DURATION = 600; //the duration every passive effect is applied with in ticks
+    private static final int REFRESH_THRESHOLD = 200; //passive effects with less ticks than this remaining are refreshed
+    private static final long CHECK_INTERVAL = 20L; //how often applied effects are checked for expiry or removal by other sources
+
+    private final Map<UUID, Map<PotionEffectType, Integer>> applied;
+
+    public PassiveEffectEngine() {
+        this.applied = new HashMap<>();
+        LogUtil.log(LogUtil.Level.INFO, "New passive effect engine initialized!");
+    }
+
+    /**
+     * A method used to start checking applied effects for expiry (must be called on the main thread)
+     */
+    public void start() {
+        Bukkit.getScheduler().runTaskTimer(InnovativeItems.getInstance(), this::refreshAll, CHECK_INTERVAL, CHECK_INTERVAL);
+    }
+
+    /**
+     * A method used to update the passive effects of a player to match their equipment and active set bonuses (must be called on the main thread)
+     *
+     * @param player the player
+     * @param items the custom items the player has equipped (elements can be null)
+     */
+    public void update(@NotNull Player player, @NotNull CustomItem[] items) {
+        Map<PotionEffectType, Integer> desired = new HashMap<>();
+
+        for (CustomItem item : items) {
+            if (item == null) {
+                continue;
+            }
+
+            for (Map.Entry<PotionEffectType, Integer> entry : item.getPassiveEffects().entrySet()) {
+                desired.merge(entry.getKey(), entry.getValue(), Math::max);
+            }
+        }
+
+        UUID uuid = player.getUniqueId();
+
+        for (Map.Entry<PotionEffectType, Integer> entry : InnovativeItems.getInstance().getItemSetTracker().getPassiveEffects(uuid).entrySet()) {
+            desired.merge(entry.getKey(), entry.getValue(), Math::max);
+        }
+
+        Map<PotionEffectType, Integer> current = this.applied.get(uuid);
+
+        if (current != null) {
+            for (Map.Entry<PotionEffectType, Integer> entry : current.entrySet()) {
+                Integer amplifier = desired.get(entry.getKey());
+
+                if (amplifier == null || amplifier < entry.getValue()) {
+                    PassiveEffectEngine.remove(player, entry.getKey(), entry.getValue());
+                }
+            }
+        }
+
+        if (desired.isEmpty()) {
+            this.applied.remove(uuid);
+            return;
+        }
+
+        this.applied.put(uuid, desired);
+        this.refresh(player, desired);
+    }
+
+    /**
+     * A method used to remove every passive effect applied to a player by this engine (must be called on the main thread)
+     *
+     * @param player the player
+     */
+    public void clear(@NotNull Player player) {
+        Map<PotionEffectType, Integer> current = this.applied.remove(player.getUniqueId());
+
+        if (current == null) {
+            return;
+        }
+
+        for (Map.Entry<PotionEffectType, Integer> entry : current.entrySet()) {
+            PassiveEffectEngine.remove(player, entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * A method used to check every player with passive effects for effects that are missing or about to expire
+     */
+    private void refreshAll() {
+        Iterator<Map.Entry<UUID, Map<PotionEffectType, Integer>>> iterator = this.applied.entrySet().iterator();
+
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, Map<PotionEffectType, Integer>> entry = iterator.next();
+            Player player = Bukkit.getPlayer(entry.getKey());
+
+            if (player == null) {
+                iterator.remove();
+                continue;
+            }
+
+            this.refresh(player, entry.getValue());
+        }
+    }
+
+    /**
+     * A util method used to (re)apply only the desired effects that are missing, weaker or about to expire
+     */
+    private void refresh(@NotNull Player player, @NotNull Map<PotionEffectType, Integer> desired) {
+        if (player.isDead()) {
+            return;
+        }
+
+        for (Map.Entry<PotionEffectType, Integer> entry : desired.entrySet()) {
+            PotionEffect active = player.getPotionEffect(entry.getKey());
+            int amplifier = entry.getValue();
+
+            //a stronger effect from another source is left alone
+            if (active != null && (active.getAmplifier() > amplifier || (active.getAmplifier() == amplifier && (active.isInfinite() || active.getDuration() >= REFRESH_THRESHOLD)))) {
+                continue;
+            }
+
+            player.addPotionEffect(new PotionEffect(entry.getKey(), DURATION, amplifier, true, false, true));
+        }
+    }
+
+    /**
+     * A util method used to remove an effect only if it still looks like the one this engine applied
+     */
+    private static void remove(@NotNull Player player, @NotNull PotionEffectType type, int amplifier) {
+        PotionEffect active = player.getPotionEffect(type);
+
+        if (active != null && active.getAmplifier() == amplifier && active.isAmbient() && !active.isInfinite() && active.getDuration() <= DURATION) {
+            player.removePotionEffect(type);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        this.clear(event.getPlayer());
+    }
+}
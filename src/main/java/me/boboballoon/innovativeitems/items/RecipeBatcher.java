@@ -0,0 +1,165 @@
+package me.boboballoon.innovativeitems.items;
+
+import me.boboballoon.innovativeitems.InnovativeItems;
+import me.boboballoon.innovativeitems.util.LogUtil;
+import org.bukkit.Bukkit;
+import org.bukkit.Keyed;
+import org.bukkit.NamespacedKey;
+import org.bukkit.inventory.Recipe;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A class used to collect crafting recipe changes and apply them in a single main thread pass, followed by a single recipe resend to the clients instead of one for every recipe (safe to queue async)
+ */
+public final class RecipeBatcher {
+    private static final long REFRESH_DELAY = 20; //ticks, lets changes that arrive shortly after each other share a refresh
+
+    private final Set<NamespacedKey> removals;
+    private final Map<NamespacedKey, Recipe> additions;
+    private int depth;
+    private boolean flushScheduled;
+    private boolean refreshScheduled;
+
+    public RecipeBatcher() {
+        this.removals = new LinkedHashSet<>(); //preserve order
+        this.additions = new LinkedHashMap<>();
+        this.depth = 0;
+        this.flushScheduled = false;
+        this.refreshScheduled = false;
+    }
+
+    /**
+     * A method used to queue a recipe to be added to the server
+     *
+     * @param recipe the recipe
+     */
+    public void add(@NotNull Recipe recipe) {
+        if (!(recipe instanceof Keyed)) {
+            LogUtil.log(LogUtil.Level.DEV, "An internal error has occurred, a custom crafting recipe does not implement the keyed interface!");
+            return;
+        }
+
+        synchronized (this) {
+            this.additions.put(((Keyed) recipe).getKey(), recipe);
+            this.scheduleFlush();
+        }
+    }
+
+    /**
+     * A method used to queue a recipe to be removed from the server
+     *
+     * @param key the key of the recipe
+     */
+    public void remove(@NotNull NamespacedKey key) {
+        synchronized (this) {
+            //a recipe that was queued but never added does not need to be removed, unless it was queued to replace one
+            if (this.additions.remove(key) == null || this.removals.contains(key)) {
+                this.removals.add(key);
+            }
+
+            this.scheduleFlush();
+        }
+    }
+
+    /**
+     * A method used to start collecting changes without applying them, every call must be followed by a call to {@link #endBatch()}
+     */
+    public synchronized void beginBatch() {
+        this.depth++;
+    }
+
+    /**
+     * A method used to stop collecting changes, the collected changes are applied once every batch has ended
+     */
+    public synchronized void endBatch() {
+        if (this.depth <= 0) {
+            LogUtil.log(LogUtil.Level.DEV, "An internal error has occurred, a recipe batch was ended without being started!");
+            return;
+        }
+
+        this.depth--;
+        this.scheduleFlush();
+    }
+
+    /**
+     * A method used to apply every queued change right away without resending recipes to the clients (must be called on the main thread)
+     *
+     * @return true if any recipe was added or removed
+     */
+    public boolean flush() {
+        List<NamespacedKey> removals;
+        List<Recipe> additions;
+
+        synchronized (this) {
+            this.flushScheduled = false;
+            removals = new ArrayList<>(this.removals);
+            additions = new ArrayList<>(this.additions.values());
+            this.removals.clear();
+            this.additions.clear();
+        }
+
+        for (NamespacedKey key : removals) {
+            if (!Bukkit.removeRecipe(key, false)) {
+                LogUtil.log(LogUtil.Level.WARNING, "An error occurred while trying to unregister the custom crafting recipe identified as " + key + "!");
+            }
+        }
+
+        for (Recipe recipe : additions) {
+            try {
+                Bukkit.addRecipe(recipe, false);
+            } catch (IllegalStateException e) {
+                LogUtil.log(LogUtil.Level.INFO, "It seems like there was a duplicate recipe registered for an item... Normally this is not a problem but if a bug occurs this might be the cause...");
+                if (InnovativeItems.getInstance().getConfigManager().getDebugLevel() >= LogUtil.Level.DEV.getDebugLevel()) {
+                    e.printStackTrace();
+                }
+            }
+        }
+
+        if (!removals.isEmpty() || !additions.isEmpty()) {
+            LogUtil.log(LogUtil.Level.DEV, "Applied a batch of " + additions.size() + " added and " + removals.size() + " removed crafting recipes!");
+        }
+
+        return !removals.isEmpty() || !additions.isEmpty();
+    }
+
+    /**
+     * A util method used to schedule a flush on the next tick, unless one is already scheduled or a batch is still collecting changes (called while holding the lock)
+     */
+    private void scheduleFlush() {
+        if (this.depth > 0 || this.flushScheduled || (this.removals.isEmpty() && this.additions.isEmpty())) {
+            return;
+        }
+
+        this.flushScheduled = true;
+        Bukkit.getScheduler().runTask(InnovativeItems.getInstance(), () -> {
+            if (this.flush()) {
+                this.scheduleRefresh();
+            }
+        });
+    }
+
+    /**
+     * A util method used to resend every recipe to the clients once, after every flush that happens within the refresh delay
+     */
+    private synchronized void scheduleRefresh() {
+        if (this.refreshScheduled) {
+            return;
+        }
+
+        this.refreshScheduled = true;
+        Bukkit.getScheduler().runTaskLater(InnovativeItems.getInstance(), () -> {
+            synchronized (this) {
+                this.refreshScheduled = false;
+            }
+
+            Bukkit.updateRecipes();
+        }, REFRESH_DELAY);
+    }
+}
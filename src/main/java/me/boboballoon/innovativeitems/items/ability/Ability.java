@@ -1,8 +1,13 @@
 package me.boboballoon.innovativeitems.items.ability;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Sets;
 import me.boboballoon.innovativeitems.InnovativeItems;
 import me.boboballoon.innovativeitems.api.AbilityExecuteEvent;
+import me.boboballoon.innovativeitems.functions.ActiveFunction;
+import me.boboballoon.innovativeitems.functions.FunctionTargeter;
 import me.boboballoon.innovativeitems.functions.condition.ActiveCondition;
 import me.boboballoon.innovativeitems.functions.context.FlexibleContext;
 import me.boboballoon.innovativeitems.functions.context.RuntimeContext;
@@ -11,10 +16,18 @@ import me.boboballoon.innovativeitems.functions.context.interfaces.EntityContext
 import me.boboballoon.innovativeitems.functions.context.interfaces.ItemContext;
 import me.boboballoon.innovativeitems.functions.keyword.ActiveKeyword;
 import me.boboballoon.innovativeitems.items.ability.trigger.AbilityTrigger;
+import me.boboballoon.innovativeitems.items.ability.trigger.TriggerRateLimiter;
+import me.boboballoon.innovativeitems.profiler.AbilityProfiler;
 import me.boboballoon.innovativeitems.util.LogUtil;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
 
 /**
  * A class used to show an ability tied to an item
@@ -25,16 +38,26 @@ public class Ability {
     private final ImmutableList<ActiveCondition> conditions;
     private final AbilityTrigger<?, ?> trigger;
     private final String providedTriggerIdentifier;
+    private final ImmutableSet<FunctionTargeter> usedTargeters;
+    private final boolean usesItem;
+    private final TriggerRateLimiter.RateLimit rateLimit;
 
-    public Ability(@NotNull String identifier, @NotNull ImmutableList<ActiveKeyword> keywords, @NotNull ImmutableList<ActiveCondition> conditions, @NotNull AbilityTrigger<?, ?> trigger, @NotNull String providedTriggerIdentifier) {
+    public Ability(@NotNull String identifier, @NotNull ImmutableList<ActiveKeyword> keywords, @NotNull ImmutableList<ActiveCondition> conditions, @NotNull AbilityTrigger<?, ?> trigger, @NotNull String providedTriggerIdentifier, @Nullable TriggerRateLimiter.RateLimit rateLimit) {
         this.identifier = identifier;
         this.keywords = keywords;
         this.conditions = conditions;
         this.trigger = trigger;
         this.providedTriggerIdentifier = providedTriggerIdentifier;
+        this.usedTargeters = Ability.findUsedTargeters(keywords, conditions);
+        this.usesItem = Ability.usesItemContext(keywords, conditions);
+        this.rateLimit = rateLimit;
         this.trigger.init(this);
     }
 
+    public Ability(@NotNull String identifier, @NotNull ImmutableList<ActiveKeyword> keywords, @NotNull ImmutableList<ActiveCondition> conditions, @NotNull AbilityTrigger<?, ?> trigger, @NotNull String providedTriggerIdentifier) {
+        this(identifier, keywords, conditions, trigger, providedTriggerIdentifier, null);
+    }
+
     /**
      * A method that returns the name of the ability
      *
@@ -85,6 +108,44 @@ public class Ability {
         return this.providedTriggerIdentifier;
     }
 
+    /**
+     * A method that returns the set of targeters used by the keywords and conditions of this ability
+     *
+     * @return the set of targeters used by the keywords and conditions of this ability
+     */
+    @NotNull
+    public ImmutableSet<FunctionTargeter> getUsedTargeters() {
+        return this.usedTargeters;
+    }
+
+    /**
+     * A method that returns the rate limit that overrides how often a single player can trigger this ability
+     *
+     * @return the rate limit that overrides how often a single player can trigger this ability (null if only the global limit applies)
+     */
+    @Nullable
+    public TriggerRateLimiter.RateLimit getRateLimit() {
+        return this.rateLimit;
+    }
+
+    /**
+     * A method used to prepare the context of this ability right after it was triggered (should be fired on the main thread)
+     * When the context must be wrapped, the fallback values of the targeters this ability uses are resolved here instead of during execution
+     *
+     * @param context the context in which the ability was triggered
+     * @return the context that should be passed into the execute method
+     */
+    @NotNull
+    public RuntimeContext prepareContext(@NotNull RuntimeContext context) {
+        if (!this.shouldWrapContext(context)) {
+            return context;
+        }
+
+        FlexibleContext flexibleContext = FlexibleContext.wrap(context);
+        flexibleContext.resolve(this.usedTargeters, this.usesItem);
+        return flexibleContext;
+    }
+
     /**
      * A method used to execute an ability (will always be fired async)
      *
@@ -107,6 +168,56 @@ public class Ability {
             return false;
         }
 
+        ExecutionToken token = context.getExecutionToken();
+
+        if (token != null) {
+            //nested executions (ability and loop keywords) share the token of the execution that started them
+            return this.run(context, token);
+        }
+
+        ExecutionWatchdog watchdog = InnovativeItems.getInstance().getExecutionWatchdog();
+        token = watchdog.begin(context.getPlayer(), this);
+        context.setExecutionToken(token);
+
+        try {
+            return this.run(context, token);
+        } finally {
+            context.setExecutionToken(null);
+            watchdog.end(token);
+        }
+    }
+
+    /**
+     * A method used to run this ability, recording how long it took if the profiler is enabled
+     *
+     * @param context the context in which the ability was triggered
+     * @param token the token of the current execution
+     * @return a boolean that is true when the ability executed successfully
+     */
+    private boolean run(@NotNull RuntimeContext context, @NotNull ExecutionToken token) {
+        AbilityProfiler profiler = InnovativeItems.getInstance().getAbilityProfiler();
+
+        if (!profiler.isEnabled()) {
+            return this.runFunctions(context, token);
+        }
+
+        long start = System.nanoTime();
+
+        try {
+            return this.runFunctions(context, token);
+        } finally {
+            profiler.recordAbility(this, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * A method used to fire the execute event and run the conditions and keywords of this ability
+     *
+     * @param context the context in which the ability was triggered
+     * @param token the token of the current execution
+     * @return a boolean that is true when the ability executed successfully
+     */
+    private boolean runFunctions(@NotNull RuntimeContext context, @NotNull ExecutionToken token) {
         AbilityExecuteEvent event = new AbilityExecuteEvent(context);
         Bukkit.getPluginManager().callEvent(event);
 
@@ -115,23 +226,40 @@ public class Ability {
             return false;
         }
 
-        for (ActiveCondition condition : this.conditions) {
-            Boolean value = condition.execute(context);
+        try {
+            for (ActiveCondition condition : this.conditions) {
+                Boolean value = condition.execute(context);
+
+                if (value == null) {
+                    LogUtil.log(LogUtil.Level.SEVERE, "There was an error trying to execute the " + this.identifier + " ability because the condition " + condition.getBase().getIdentifier() + " returned null!");
+                    return false;
+                }
 
-            if (value == null) {
-                LogUtil.log(LogUtil.Level.SEVERE, "There was an error trying to execute the " + this.identifier + " ability because the condition " + condition.getBase().getIdentifier() + " returned null!");
-                return false;
+                //both must be opposites (when value is true, inverted must be false)
+                if (value == condition.isInverted()) {
+                    LogUtil.log(LogUtil.Level.NOISE, "Condition: " + condition.getBase().getIdentifier() + " failed on the " + this.identifier + " ability.");
+                    return false;
+                }
             }
 
-            //both must be opposites (when value is true, inverted must be false)
-            if (value == condition.isInverted()) {
-                LogUtil.log(LogUtil.Level.NOISE, "Condition: " + condition.getBase().getIdentifier() + " failed on the " + this.identifier + " ability.");
-                return false;
+            for (ActiveKeyword keyword : this.keywords) {
+                if (token.isCancelled()) {
+                    break;
+                }
+
+                keyword.execute(context);
             }
+        } catch (CancellationException ignore) {
+            //the token is checked below
+        } catch (IllegalStateException e) {
+            //thrown when a fallback value of a flexible context could not be resolved
+            LogUtil.log(LogUtil.Level.WARNING, "There was an error trying to execute the " + this.identifier + " ability: " + e.getMessage());
+            return false;
         }
 
-        for (ActiveKeyword keyword : this.keywords) {
-            keyword.execute(context);
+        if (token.isCancelled()) {
+            LogUtil.log(LogUtil.Level.NOISE, "Ability: " + this.identifier + " stopped executing because it was cancelled (" + token.getReason() + ").");
+            return false;
         }
 
         return true;
@@ -162,4 +290,52 @@ public class Ability {
 
         return !(context instanceof EntityContext && context instanceof BlockContext && context instanceof ItemContext);
     }
+
+    /**
+     * A method used to find every targeter that is passed as an argument into the provided keywords and conditions
+     *
+     * @param keywords the keywords of an ability
+     * @param conditions the conditions of an ability
+     * @return every targeter that is passed as an argument into the provided keywords and conditions
+     */
+    @NotNull
+    private static ImmutableSet<FunctionTargeter> findUsedTargeters(@NotNull ImmutableList<ActiveKeyword> keywords, @NotNull ImmutableList<ActiveCondition> conditions) {
+        Set<FunctionTargeter> targeters = EnumSet.noneOf(FunctionTargeter.class);
+
+        for (ActiveFunction<?> function : Iterables.concat(keywords, conditions)) {
+            Ability.findUsedTargeters(function.getArguments(), targeters);
+        }
+
+        return Sets.immutableEnumSet(targeters);
+    }
+
+    /**
+     * A util method used to add every targeter in the provided arguments to the provided set, var-arg values are searched as well
+     */
+    private static void findUsedTargeters(@NotNull List<?> arguments, @NotNull Set<FunctionTargeter> targeters) {
+        for (Object argument : arguments) {
+            if (argument instanceof FunctionTargeter) {
+                targeters.add((FunctionTargeter) argument);
+            } else if (argument instanceof List) {
+                Ability.findUsedTargeters((List<?>) argument, targeters);
+            }
+        }
+    }
+
+    /**
+     * A method used to check if any of the provided keywords and conditions reads the item of an item context
+     *
+     * @param keywords the keywords of an ability
+     * @param conditions the conditions of an ability
+     * @return true if any of the provided keywords and conditions reads the item of an item context
+     */
+    private static boolean usesItemContext(@NotNull ImmutableList<ActiveKeyword> keywords, @NotNull ImmutableList<ActiveCondition> conditions) {
+        for (ActiveFunction<?> function : Iterables.concat(keywords, conditions)) {
+            if (function.getBase().usesItemContext()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import me.boboballoon.innovativeitems.functions.condition.ActiveCondition;
 import me.boboballoon.innovativeitems.functions.context.RuntimeContext;
 import me.boboballoon.innovativeitems.functions.keyword.ActiveKeyword;
 import me.boboballoon.innovativeitems.items.ability.trigger.AbilityTrigger;
+import me.boboballoon.innovativeitems.items.ability.trigger.TriggerRateLimiter;
 import me.boboballoon.innovativeitems.util.TextUtil;
 import net.md_5.bungee.api.ChatMessageType;
 import net.md_5.bungee.api.chat.BaseComponent;
@@ -26,8 +27,8 @@ public class AbilityCooldown extends Ability {
     private final CooldownMessage message;
     private final Map<UUID, Long> onCooldown;
 
-    public AbilityCooldown(@NotNull String identifier, @NotNull ImmutableList<ActiveKeyword> keywords, @NotNull ImmutableList<ActiveCondition> conditions, @NotNull AbilityTrigger<?, ?> trigger, @NotNull String providedTriggerIdentifier, long cooldown, @Nullable CooldownMessage message) {
-        super(identifier, keywords, conditions, trigger, providedTriggerIdentifier);
+    public AbilityCooldown(@NotNull String identifier, @NotNull ImmutableList<ActiveKeyword> keywords, @NotNull ImmutableList<ActiveCondition> conditions, @NotNull AbilityTrigger<?, ?> trigger, @NotNull String providedTriggerIdentifier, @Nullable TriggerRateLimiter.RateLimit rateLimit, long cooldown, @Nullable CooldownMessage message) {
+        super(identifier, keywords, conditions, trigger, providedTriggerIdentifier, rateLimit);
 
         if (cooldown <= 0) {
             throw new IllegalArgumentException("The provided cooldown is less than or equal to zero!");
@@ -38,6 +39,10 @@ public class AbilityCooldown extends Ability {
         this.onCooldown = new HashMap<>();
     }
 
+    public AbilityCooldown(@NotNull String identifier, @NotNull ImmutableList<ActiveKeyword> keywords, @NotNull ImmutableList<ActiveCondition> conditions, @NotNull AbilityTrigger<?, ?> trigger, @NotNull String providedTriggerIdentifier, long cooldown, @Nullable CooldownMessage message) {
+        this(identifier, keywords, conditions, trigger, providedTriggerIdentifier, null, cooldown, message);
+    }
+
     /**
      * A method used to return the amount of ticks for the ability's cooldown
      *
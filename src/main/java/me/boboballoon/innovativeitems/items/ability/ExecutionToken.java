@@ -0,0 +1,155 @@
+package me.boboballoon.innovativeitems.items.ability;
+
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A class that represents the deadline and cancellation state of a single ability execution (shared by every nested ability it executes)
+ */
+public final class ExecutionToken {
+    private final UUID player;
+    private final String playerName;
+    private final String ability;
+    private final long start;
+    private final long deadline;
+    private Thread thread;
+    private Future<?> pending;
+    private volatile boolean cancelled;
+    private volatile String reason;
+    private boolean finished;
+
+    /**
+     * A constructor used to build a token bound to the current thread
+     *
+     * @param player the player who executed the ability
+     * @param ability the ability that started the execution
+     * @param budget the amount of milliseconds the execution is allowed to run for (0 or less means no deadline)
+     */
+    public ExecutionToken(@NotNull Player player, @NotNull Ability ability, long budget) {
+        this.player = player.getUniqueId();
+        this.playerName = player.getName();
+        this.ability = ability.getIdentifier();
+        this.start = System.nanoTime();
+        this.deadline = budget > 0 ? this.start + TimeUnit.MILLISECONDS.toNanos(budget) : Long.MAX_VALUE;
+        this.thread = Thread.currentThread();
+        this.pending = null;
+        this.cancelled = false;
+        this.reason = null;
+        this.finished = false;
+    }
+
+    /**
+     * A method that returns the uuid of the player who executed the ability
+     *
+     * @return the uuid of the player who executed the ability
+     */
+    @NotNull
+    public UUID getPlayer() {
+        return this.player;
+    }
+
+    /**
+     * A method that returns the name of the player who executed the ability
+     *
+     * @return the name of the player who executed the ability
+     */
+    @NotNull
+    public String getPlayerName() {
+        return this.playerName;
+    }
+
+    /**
+     * A method that returns the identifier of the ability that started the execution
+     *
+     * @return the identifier of the ability that started the execution
+     */
+    @NotNull
+    public String getAbility() {
+        return this.ability;
+    }
+
+    /**
+     * A method that returns the amount of milliseconds this execution has been running for
+     *
+     * @return the amount of milliseconds this execution has been running for
+     */
+    public long getElapsed() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.start);
+    }
+
+    /**
+     * A method that returns true when this execution has run past its deadline
+     *
+     * @return true when this execution has run past its deadline
+     */
+    public boolean isOverdue() {
+        return System.nanoTime() - this.deadline > 0;
+    }
+
+    /**
+     * A method that returns true when this execution was cancelled
+     *
+     * @return true when this execution was cancelled
+     */
+    public boolean isCancelled() {
+        return this.cancelled;
+    }
+
+    /**
+     * A method that returns the reason this execution was cancelled
+     *
+     * @return the reason this execution was cancelled (null if it was not cancelled)
+     */
+    @Nullable
+    public String getReason() {
+        return this.reason;
+    }
+
+    /**
+     * A method used to cancel this execution, waking it up if it is sleeping or waiting on the main thread
+     *
+     * @param reason the reason this execution was cancelled
+     */
+    public synchronized void cancel(@NotNull String reason) {
+        if (this.finished || this.cancelled) {
+            return;
+        }
+
+        this.reason = reason;
+        this.cancelled = true;
+
+        if (this.pending != null) {
+            this.pending.cancel(false);
+        }
+
+        this.thread.interrupt();
+    }
+
+    /**
+     * A method used to track a main thread call this execution is waiting on so it can be cancelled with the execution
+     *
+     * @param pending the main thread call (null once the call completed)
+     */
+    public synchronized void setPending(@Nullable Future<?> pending) {
+        this.pending = pending;
+
+        if (pending != null && this.cancelled) {
+            pending.cancel(false);
+        }
+    }
+
+    /**
+     * A method used to mark this execution as finished (must be called on the thread the token was created on)
+     */
+    synchronized void finish() {
+        this.finished = true;
+        this.pending = null;
+        this.thread = null;
+        Thread.interrupted(); //clear a stray interrupt so it does not leak into the next task of the pooled thread
+    }
+}
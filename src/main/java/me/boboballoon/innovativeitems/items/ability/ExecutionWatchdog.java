@@ -0,0 +1,188 @@
+package me.boboballoon.innovativeitems.items.ability;
+
+import me.boboballoon.innovativeitems.util.LogUtil;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A class used to track in-flight ability executions and cancel them when they run over budget, the player leaves or the plugin reloads
+ */
+public final class ExecutionWatchdog implements Listener {
+    private static final long CHECK_INTERVAL = 50; //one tick in milliseconds
+
+    private final Set<ExecutionToken> executions;
+    private volatile long budget;
+    private Thread thread;
+
+    /**
+     * A constructor used to build the execution watchdog
+     *
+     * @param budget the amount of ticks a single execution is allowed to run for (0 or less means no deadline)
+     */
+    public ExecutionWatchdog(long budget) {
+        this.executions = ConcurrentHashMap.newKeySet();
+        this.setBudget(budget);
+        this.thread = null;
+        LogUtil.log(LogUtil.Level.INFO, "New execution watchdog initialized!");
+    }
+
+    /**
+     * A method that returns the amount of milliseconds a single execution is allowed to run for
+     *
+     * @return the amount of milliseconds a single execution is allowed to run for (0 or less means no deadline)
+     */
+    public long getBudget() {
+        return this.budget;
+    }
+
+    /**
+     * A method used to set the amount of ticks a single execution is allowed to run for
+     *
+     * @param budget the amount of ticks a single execution is allowed to run for (0 or less means no deadline)
+     */
+    public void setBudget(long budget) {
+        this.budget = budget * 50; //convert ticks to milliseconds
+    }
+
+    /**
+     * A method that returns the amount of executions currently in-flight
+     *
+     * @return the amount of executions currently in-flight
+     */
+    public int getActive() {
+        return this.executions.size();
+    }
+
+    /**
+     * A method used to start tracking a new execution on the current thread
+     *
+     * @param player the player who executed the ability
+     * @param ability the ability that started the execution
+     * @return the token of the new execution
+     */
+    @NotNull
+    public ExecutionToken begin(@NotNull Player player, @NotNull Ability ability) {
+        ExecutionToken token = new ExecutionToken(player, ability, this.budget);
+        this.executions.add(token);
+        return token;
+    }
+
+    /**
+     * A method used to stop tracking an execution (must be called on the thread the execution began on)
+     *
+     * @param token the token of the execution
+     */
+    public void end(@NotNull ExecutionToken token) {
+        this.executions.remove(token);
+        token.finish();
+    }
+
+    /**
+     * A method used to cancel every in-flight execution of a single player
+     *
+     * @param player the uuid of the player
+     * @param reason the reason the executions were cancelled
+     */
+    public void cancel(@NotNull UUID player, @NotNull String reason) {
+        for (ExecutionToken token : this.executions) {
+            if (token.getPlayer().equals(player)) {
+                token.cancel(reason);
+            }
+        }
+    }
+
+    /**
+     * A method used to cancel every in-flight execution and wait for them to stop
+     *
+     * @param reason the reason the executions were cancelled
+     * @param timeout the maximum amount of milliseconds to wait for the executions to stop
+     * @return true if every execution stopped in time
+     */
+    public boolean cancelAll(@NotNull String reason, long timeout) {
+        for (ExecutionToken token : this.executions) {
+            token.cancel(reason);
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+
+        while (!this.executions.isEmpty()) {
+            if (System.nanoTime() - deadline > 0) {
+                LogUtil.log(LogUtil.Level.WARNING, this.executions.size() + " ability execution(s) did not stop in time after being cancelled (" + reason + ")!");
+                return false;
+            }
+
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * A method used to start the watchdog thread
+     */
+    public synchronized void start() {
+        if (this.thread != null) {
+            return;
+        }
+
+        this.thread = new Thread(this::watch, "InnovativeItems Execution Watchdog");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * A method used to stop the watchdog thread
+     */
+    public synchronized void stop() {
+        if (this.thread == null) {
+            return;
+        }
+
+        this.thread.interrupt();
+        this.thread = null;
+    }
+
+    /**
+     * The loop of the watchdog thread, which cancels every execution that has run past its deadline
+     */
+    private void watch() {
+        while (!Thread.currentThread().isInterrupted()) {
+            for (ExecutionToken token : this.executions) {
+                if (token.isCancelled() || !token.isOverdue()) {
+                    continue;
+                }
+
+                LogUtil.log(LogUtil.Level.WARNING, "The " + token.getAbility() + " ability executed by " + token.getPlayerName() + " has been running for " + token.getElapsed() + "ms, which exceeds the execution budget of " + this.budget + "ms, and was cancelled!");
+                token.cancel("exceeded the execution budget");
+            }
+
+            try {
+                Thread.sleep(CHECK_INTERVAL);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Listen for when a player leaves to cancel their executions
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    private void onPlayerQuit(PlayerQuitEvent event) {
+        this.cancel(event.getPlayer().getUniqueId(), "player left");
+    }
+}
@@ -145,6 +145,16 @@ public abstract class AbilityTrigger<T extends Event, S extends RuntimeContext>
      */
     public void init(@NotNull Ability ability) {}
 
+    /**
+     * A method that returns which rate limits apply to this ability trigger (only the ones of abilities by default)
+     *
+     * @return which rate limits apply to this ability trigger
+     */
+    @NotNull
+    public TriggerRateLimiter.Scope getRateLimitScope() {
+        return TriggerRateLimiter.Scope.ABILITY;
+    }
+
     /**
      * A method used to convert a collection of targeters to an immutable set
      *
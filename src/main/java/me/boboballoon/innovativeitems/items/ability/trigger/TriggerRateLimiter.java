@@ -0,0 +1,305 @@
+package me.boboballoon.innovativeitems.items.ability.trigger;
+
+import com.google.common.collect.ImmutableMap;
+import me.boboballoon.innovativeitems.items.ability.Ability;
+import me.boboballoon.innovativeitems.util.LogUtil;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A class used to limit how often a single player can fire an ability trigger using token buckets, the global limit only applies to triggers with the global scope (should only be used on the main thread)
+ */
+public final class TriggerRateLimiter implements Listener {
+    private final Map<UUID, Map<AbilityTrigger<?, ?>, TokenBucket>> triggerBuckets;
+    private final Map<UUID, Map<Ability, TokenBucket>> abilityBuckets;
+    private final Map<UUID, Long> rejectedPlayers;
+    private final Map<String, Long> rejectedTriggers;
+    private volatile boolean enabled;
+    private volatile RateLimit defaultLimit;
+    private long rejected;
+
+    /**
+     * The constructor that builds the trigger rate limiter
+     *
+     * @param enabled whether the rate limiter should reject triggers at all
+     * @param defaultLimit the limit applied to every trigger with the global scope of every player
+     */
+    public TriggerRateLimiter(boolean enabled, @NotNull RateLimit defaultLimit) {
+        this.triggerBuckets = new HashMap<>();
+        this.abilityBuckets = new HashMap<>();
+        this.rejectedPlayers = new HashMap<>();
+        this.rejectedTriggers = new HashMap<>();
+        this.enabled = enabled;
+        this.defaultLimit = defaultLimit;
+        this.rejected = 0;
+        LogUtil.log(LogUtil.Level.INFO, "New trigger rate limiter initialized!");
+    }
+
+    /**
+     * A method used to determine if the rate limiter is enabled
+     *
+     * @return if the rate limiter is enabled
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * A method used to set if the rate limiter is enabled
+     *
+     * @param enabled if the rate limiter is enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * A method used to get the limit applied to every trigger with the global scope of every player
+     *
+     * @return the limit applied to every trigger with the global scope of every player
+     */
+    @NotNull
+    public RateLimit getDefaultLimit() {
+        return this.defaultLimit;
+    }
+
+    /**
+     * A method used to set the limit applied to every trigger with the global scope of every player
+     *
+     * @param defaultLimit the limit applied to every trigger with the global scope of every player
+     */
+    public void setDefaultLimit(@NotNull RateLimit defaultLimit) {
+        this.defaultLimit = defaultLimit;
+    }
+
+    /**
+     * A method used to take a token from the bucket of the provided player for the provided trigger (only charged for abilities without a rate limit of their own)
+     *
+     * @param player the player that fired the trigger
+     * @param trigger the trigger that was fired
+     * @return true if the trigger should be dispatched, false if it was rejected
+     */
+    public boolean tryAcquire(@NotNull Player player, @NotNull AbilityTrigger<?, ?> trigger) {
+        if (!this.enabled) {
+            return true;
+        }
+
+        TokenBucket bucket = this.triggerBuckets.computeIfAbsent(player.getUniqueId(), uuid -> new HashMap<>()).computeIfAbsent(trigger, key -> new TokenBucket(this.defaultLimit));
+
+        if (bucket.tryConsume(this.defaultLimit)) {
+            return true;
+        }
+
+        this.reject(player, trigger.getIdentifier());
+        return false;
+    }
+
+    /**
+     * A method used to take a token from the bucket of the provided player for the provided ability (always true if the ability has no rate limit of its own)
+     *
+     * @param player the player that fired the trigger
+     * @param ability the ability about to be triggered
+     * @return true if the ability should be triggered, false if it was rejected
+     */
+    public boolean tryAcquire(@NotNull Player player, @NotNull Ability ability) {
+        RateLimit limit = ability.getRateLimit();
+
+        if (!this.enabled || limit == null) {
+            return true;
+        }
+
+        TokenBucket bucket = this.abilityBuckets.computeIfAbsent(player.getUniqueId(), uuid -> new HashMap<>()).computeIfAbsent(ability, key -> new TokenBucket(limit));
+
+        if (bucket.tryConsume(limit)) {
+            return true;
+        }
+
+        this.reject(player, ability.getTrigger().getIdentifier());
+        return false;
+    }
+
+    /**
+     * A method that returns the total amount of rejected triggers since the last reset
+     *
+     * @return the total amount of rejected triggers since the last reset
+     */
+    public long getRejected() {
+        return this.rejected;
+    }
+
+    /**
+     * A method that returns the amount of rejected triggers per player since the last reset
+     *
+     * @return the amount of rejected triggers per player since the last reset
+     */
+    @NotNull
+    public ImmutableMap<UUID, Long> getRejectedPlayers() {
+        return ImmutableMap.copyOf(this.rejectedPlayers);
+    }
+
+    /**
+     * A method that returns the amount of rejected triggers per trigger identifier since the last reset
+     *
+     * @return the amount of rejected triggers per trigger identifier since the last reset
+     */
+    @NotNull
+    public ImmutableMap<String, Long> getRejectedTriggers() {
+        return ImmutableMap.copyOf(this.rejectedTriggers);
+    }
+
+    /**
+     * A method used to reset all rejection counters
+     */
+    public void resetCounters() {
+        this.rejectedPlayers.clear();
+        this.rejectedTriggers.clear();
+        this.rejected = 0;
+    }
+
+    /**
+     * A method used to wipe all token buckets (used when abilities are reloaded)
+     */
+    public void clearCache() {
+        this.triggerBuckets.clear();
+        this.abilityBuckets.clear();
+    }
+
+    /**
+     * A util method used to update the rejection counters
+     */
+    private void reject(@NotNull Player player, @NotNull String trigger) {
+        this.rejectedPlayers.merge(player.getUniqueId(), 1L, Long::sum);
+        this.rejectedTriggers.merge(trigger, 1L, Long::sum);
+        this.rejected++;
+        LogUtil.log(LogUtil.Level.NOISE, "The " + trigger + " ability trigger was rate limited for " + player.getName() + "!");
+    }
+
+    /**
+     * Listen for when a player leaves to release their buckets
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    private void onPlayerQuit(PlayerQuitEvent event) {
+        UUID uuid = event.getPlayer().getUniqueId();
+        this.triggerBuckets.remove(uuid);
+        this.abilityBuckets.remove(uuid);
+    }
+
+    /**
+     * An enum that represents which limits apply to an ability trigger
+     */
+    public enum Scope {
+        /**
+         * The global limit applies, abilities can override it with their own (used by click triggers that auto clickers and macros can spam)
+         */
+        GLOBAL,
+        /**
+         * Only abilities with a rate limit of their own are limited
+         */
+        ABILITY,
+        /**
+         * The trigger is never limited, dropping one would break a state transition such as an equip without its unequip
+         */
+        NONE
+    }
+
+    /**
+     * A class that represents the capacity and refill rate of a token bucket
+     */
+    public static final class RateLimit {
+        private final int capacity;
+        private final double refillPerSecond;
+
+        public RateLimit(int capacity, double refillPerSecond) {
+            if (capacity <= 0 || refillPerSecond <= 0) {
+                throw new IllegalArgumentException("The capacity and refill rate of a rate limit must be greater than zero!");
+            }
+
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerSecond;
+        }
+
+        /**
+         * A method that returns the amount of triggers that can be fired in a burst
+         *
+         * @return the amount of triggers that can be fired in a burst
+         */
+        public int getCapacity() {
+            return this.capacity;
+        }
+
+        /**
+         * A method that returns the amount of tokens that are regained every second
+         *
+         * @return the amount of tokens that are regained every second
+         */
+        public double getRefillPerSecond() {
+            return this.refillPerSecond;
+        }
+
+        /**
+         * A util method used to parse a rate limit from a config section
+         *
+         * @param section the config section that contains the capacity and refill-per-second fields
+         * @return the rate limit (null if the section did not contain valid values)
+         */
+        @Nullable
+        public static RateLimit fromSection(@NotNull ConfigurationSection section) {
+            if (!section.isInt("capacity") || !(section.isDouble("refill-per-second") || section.isInt("refill-per-second"))) {
+                return null;
+            }
+
+            int capacity = section.getInt("capacity");
+            double refillPerSecond = section.getDouble("refill-per-second");
+
+            if (capacity <= 0 || refillPerSecond <= 0) {
+                return null;
+            }
+
+            return new RateLimit(capacity, refillPerSecond);
+        }
+    }
+
+    /**
+     * A class that represents a single token bucket
+     */
+    private static final class TokenBucket {
+        private double tokens;
+        private long lastRefill;
+
+        public TokenBucket(@NotNull RateLimit limit) {
+            this.tokens = limit.getCapacity();
+            this.lastRefill = System.nanoTime();
+        }
+
+        /**
+         * A method used to refill the bucket and then try to take a single token from it
+         *
+         * @param limit the limit to refill the bucket with
+         * @return true if a token was taken
+         */
+        public boolean tryConsume(@NotNull RateLimit limit) {
+            long now = System.nanoTime();
+            double refill = (now - this.lastRefill) / 1_000_000_000D * limit.getRefillPerSecond();
+
+            this.tokens = Math.min(limit.getCapacity(), this.tokens + refill);
+            this.lastRefill = now;
+
+            if (this.tokens < 1) {
+                return false;
+            }
+
+            this.tokens--;
+            return true;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import me.boboballoon.innovativeitems.functions.context.InteractBlockContext;
 import me.boboballoon.innovativeitems.items.ability.Ability;
 import me.boboballoon.innovativeitems.items.ability.trigger.AbilityTrigger;
 import me.boboballoon.innovativeitems.items.ability.trigger.InventoryIterator;
+import me.boboballoon.innovativeitems.items.ability.trigger.TriggerRateLimiter;
 import me.boboballoon.innovativeitems.items.item.CustomItem;
 import org.bukkit.entity.Player;
 import org.bukkit.event.block.Action;
@@ -30,4 +31,10 @@ public class LeftClickBlockTrigger extends AbilityTrigger<PlayerInteractEvent, I
     public InteractBlockContext trigger(@NotNull PlayerInteractEvent event, @NotNull CustomItem item, @NotNull Ability ability) {
         return new InteractBlockContext(event.getPlayer(), ability, event.getAction(), event.getHand(), event.getClickedBlock());
     }
+
+    @Override
+    @NotNull
+    public TriggerRateLimiter.Scope getRateLimitScope() {
+        return TriggerRateLimiter.Scope.GLOBAL;
+    }
 }
@@ -4,6 +4,7 @@ import me.boboballoon.innovativeitems.functions.context.InteractContext;
 import me.boboballoon.innovativeitems.items.ability.Ability;
 import me.boboballoon.innovativeitems.items.ability.trigger.AbilityTrigger;
 import me.boboballoon.innovativeitems.items.ability.trigger.InventoryIterator;
+import me.boboballoon.innovativeitems.items.ability.trigger.TriggerRateLimiter;
 import me.boboballoon.innovativeitems.items.item.CustomItem;
 import org.bukkit.entity.Player;
 import org.bukkit.event.block.Action;
@@ -29,4 +30,10 @@ public class LeftClickTrigger extends AbilityTrigger<PlayerInteractEvent, Intera
     public InteractContext trigger(@NotNull PlayerInteractEvent event, @NotNull CustomItem item, @NotNull Ability ability) {
         return new InteractContext(event.getPlayer(), ability, event.getAction(), event.getHand());
     }
+
+    @Override
+    @NotNull
+    public TriggerRateLimiter.Scope getRateLimitScope() {
+        return TriggerRateLimiter.Scope.GLOBAL;
+    }
 }
@@ -5,6 +5,7 @@ import me.boboballoon.innovativeitems.functions.context.InteractEntityContext;
 import me.boboballoon.innovativeitems.items.ability.Ability;
 import me.boboballoon.innovativeitems.items.ability.trigger.AbilityTrigger;
 import me.boboballoon.innovativeitems.items.ability.trigger.InventoryIterator;
+import me.boboballoon.innovativeitems.items.ability.trigger.TriggerRateLimiter;
 import me.boboballoon.innovativeitems.items.item.CustomItem;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
@@ -32,4 +33,10 @@ public class RightClickEntityTrigger extends AbilityTrigger<PlayerInteractEntity
     public InteractEntityContext trigger(@NotNull PlayerInteractEntityEvent event, @NotNull CustomItem item, @NotNull Ability ability) {
         return new InteractEntityContext(event.getPlayer(), ability, Action.RIGHT_CLICK_AIR, event.getHand(), (LivingEntity) event.getRightClicked());
     }
+
+    @Override
+    @NotNull
+    public TriggerRateLimiter.Scope getRateLimitScope() {
+        return TriggerRateLimiter.Scope.GLOBAL;
+    }
 }
@@ -0,0 +1,55 @@
+package me.boboballoon.innovativeitems.items.ability.trigger.builtin.aura;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A class that represents the parsed parameters of a single aura ability
+ */
+public final class Aura {
+    private final double radius;
+    private final Transition transition;
+    private final long interval;
+
+    public Aura(double radius, @NotNull Transition transition, long interval) {
+        this.radius = radius;
+        this.transition = transition;
+        this.interval = interval;
+    }
+
+    /**
+     * A method that returns the radius of the aura in blocks
+     *
+     * @return the radius of the aura in blocks
+     */
+    public double getRadius() {
+        return this.radius;
+    }
+
+    /**
+     * A method that returns the transition the aura fires on
+     *
+     * @return the transition the aura fires on
+     */
+    @NotNull
+    public Transition getTransition() {
+        return this.transition;
+    }
+
+    /**
+     * A method that returns the delay in ticks in between each firing of a stay aura
+     *
+     * @return the delay in ticks in between each firing of a stay aura
+     */
+    public long getInterval() {
+        return this.interval;
+    }
+
+    /**
+     * An enum that represents the transitions of an entity relative to the aura of a wearer
+     */
+    public enum Transition {
+        ENTER,
+        STAY,
+        LEAVE
+    }
+}
@@ -0,0 +1,213 @@
+package me.boboballoon.innovativeitems.items.ability.trigger.builtin.aura;
+
+import me.boboballoon.innovativeitems.InnovativeItems;
+import me.boboballoon.innovativeitems.functions.context.GenericEntityContext;
+import me.boboballoon.innovativeitems.functions.context.RuntimeContext;
+import me.boboballoon.innovativeitems.items.EquipmentIndex;
+import me.boboballoon.innovativeitems.items.ability.Ability;
+import me.boboballoon.innovativeitems.items.ability.trigger.builtin.timer.AbilityTimerManager;
+import me.boboballoon.innovativeitems.items.item.CustomItem;
+import me.boboballoon.innovativeitems.util.LogUtil;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * A class that is responsible for firing aura abilities, every wearer in the same world is served by one spatial grid of living entities that is rebuilt once per tick
+ */
+public final class AuraManager {
+    private static final int CELL_SHIFT = 4; //cells are the width of a chunk
+
+    private final Map<UUID, Map<String, Map<UUID, LivingEntity>>> inside; //wearer to enter and leave ability to the entities that were in range on the last tick
+    private final Map<World, SpatialGrid<LivingEntity>> grids;
+    private long tick;
+    private BukkitTask task;
+
+    public AuraManager() {
+        this.inside = new HashMap<>();
+        this.grids = new HashMap<>();
+        this.tick = 0;
+        LogUtil.log(LogUtil.Level.INFO, "New aura manager initialized!");
+    }
+
+    /**
+     * A method used to start checking auras every tick (must be called on the main thread)
+     */
+    public void start() {
+        this.task = Bukkit.getScheduler().runTaskTimer(InnovativeItems.getInstance(), this::tick, 1L, 1L);
+    }
+
+    /**
+     * A method used to stop checking auras
+     */
+    public void shutdown() {
+        if (this.task != null) {
+            this.task.cancel();
+        }
+
+        this.inside.clear();
+        this.grids.clear();
+    }
+
+    /**
+     * A method used to check the auras of every wearer once (called on the main thread)
+     */
+    private void tick() {
+        this.tick++;
+
+        EquipmentIndex index = InnovativeItems.getInstance().getEquipmentIndex();
+        Set<UUID> wearers = index.getAuraPlayers();
+
+        if (wearers.isEmpty() && this.inside.isEmpty()) {
+            return;
+        }
+
+        for (UUID uuid : wearers) {
+            Player player = Bukkit.getPlayer(uuid);
+            CustomItem[] items = index.getEquipment(uuid);
+
+            if (player == null || items == null || player.isDead()) {
+                this.inside.remove(uuid);
+                continue;
+            }
+
+            this.check(player, items);
+        }
+
+        this.inside.keySet().retainAll(wearers);
+        this.grids.clear(); //grids only live for the tick they were built on
+    }
+
+    /**
+     * A util method used to check every aura ability a single wearer has equipped
+     */
+    private void check(@NotNull Player player, @NotNull CustomItem[] items) {
+        UUID uuid = player.getUniqueId();
+        Map<String, Map<UUID, LivingEntity>> previous = this.inside.get(uuid);
+        Map<String, Map<UUID, LivingEntity>> current = new HashMap<>();
+        Set<String> stayed = new HashSet<>();
+
+        for (CustomItem item : items) {
+            if (item == null) {
+                continue;
+            }
+
+            for (Ability ability : item.getAbilities()) {
+                if (!(ability.getTrigger() instanceof AuraTrigger)) {
+                    continue;
+                }
+
+                Aura aura = ((AuraTrigger) ability.getTrigger()).getAura(ability);
+
+                if (aura == null) {
+                    continue;
+                }
+
+                String identifier = ability.getIdentifier();
+
+                if (aura.getTransition() == Aura.Transition.STAY) {
+                    //stay auras fire each wearer on their own tick within the interval, like sharded timers
+                    if (stayed.contains(identifier) || Math.floorMod(this.tick, aura.getInterval()) != AbilityTimerManager.getPhase(uuid, aura.getInterval())) {
+                        continue;
+                    }
+
+                    for (LivingEntity entity : this.query(player, aura.getRadius())) {
+                        AuraManager.fire(player, ability, entity);
+                    }
+
+                    stayed.add(identifier); //the same ability on two items is one aura
+                    continue;
+                }
+
+                //the same ability on two items is one aura
+                if (current.containsKey(identifier)) {
+                    continue;
+                }
+
+                Map<UUID, LivingEntity> before = previous != null ? previous.get(identifier) : null;
+                Map<UUID, LivingEntity> now = new HashMap<>();
+
+                for (LivingEntity entity : this.query(player, aura.getRadius())) {
+                    now.put(entity.getUniqueId(), entity);
+                }
+
+                if (aura.getTransition() == Aura.Transition.ENTER) {
+                    for (Map.Entry<UUID, LivingEntity> entry : now.entrySet()) {
+                        if (before == null || !before.containsKey(entry.getKey())) {
+                            AuraManager.fire(player, ability, entry.getValue());
+                        }
+                    }
+                } else if (before != null) {
+                    for (Map.Entry<UUID, LivingEntity> entry : before.entrySet()) {
+                        //entities that died or unloaded are gone, not out of range
+                        if (!now.containsKey(entry.getKey()) && entry.getValue().isValid()) {
+                            AuraManager.fire(player, ability, entry.getValue());
+                        }
+                    }
+                }
+
+                current.put(identifier, now);
+            }
+        }
+
+        if (current.isEmpty()) {
+            this.inside.remove(uuid);
+        } else {
+            this.inside.put(uuid, current);
+        }
+    }
+
+    /**
+     * A util method used to get every living entity other than the wearer within a radius of them, building the grid of their world on first use this tick
+     */
+    @NotNull
+    private List<LivingEntity> query(@NotNull Player player, double radius) {
+        Location location = player.getLocation();
+        SpatialGrid<LivingEntity> grid = this.grids.computeIfAbsent(location.getWorld(), AuraManager::build);
+        List<LivingEntity> entities = new ArrayList<>();
+
+        grid.query(location.getX(), location.getY(), location.getZ(), radius, entities);
+        entities.remove(player);
+
+        return entities;
+    }
+
+    /**
+     * A util method used to build the grid of every living entity in a world
+     */
+    @NotNull
+    private static SpatialGrid<LivingEntity> build(@NotNull World world) {
+        SpatialGrid<LivingEntity> grid = new SpatialGrid<>(CELL_SHIFT);
+
+        for (LivingEntity entity : world.getLivingEntities()) {
+            if (entity.isDead()) {
+                continue;
+            }
+
+            Location location = entity.getLocation();
+            grid.insert(entity, location.getX(), location.getY(), location.getZ());
+        }
+
+        return grid;
+    }
+
+    /**
+     * A util method used to execute an aura ability off the main thread with the provided entity as its target
+     */
+    private static void fire(@NotNull Player player, @NotNull Ability ability, @NotNull LivingEntity entity) {
+        RuntimeContext context = ability.prepareContext(new GenericEntityContext(player, ability, entity));
+        Bukkit.getScheduler().runTaskAsynchronously(InnovativeItems.getInstance(), () -> ability.execute(context));
+    }
+}
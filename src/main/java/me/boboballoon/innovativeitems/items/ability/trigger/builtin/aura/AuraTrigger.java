@@ -0,0 +1,89 @@
+package me.boboballoon.innovativeitems.items.ability.trigger.builtin.aura;
+
+import me.boboballoon.innovativeitems.functions.FunctionTargeter;
+import me.boboballoon.innovativeitems.functions.context.GenericEntityContext;
+import me.boboballoon.innovativeitems.items.ability.Ability;
+import me.boboballoon.innovativeitems.items.ability.trigger.AbilityTrigger;
+import me.boboballoon.innovativeitems.items.ability.trigger.InventoryIterator;
+import me.boboballoon.innovativeitems.items.ability.trigger.ManuallyRegister;
+import me.boboballoon.innovativeitems.items.ability.trigger.TriggerRateLimiter;
+import me.boboballoon.innovativeitems.items.item.CustomItem;
+import me.boboballoon.innovativeitems.util.LogUtil;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A class that represents the "aura" ability trigger, fired by the aura manager for entities around the wearer
+ */
+@ManuallyRegister
+public class AuraTrigger extends AbilityTrigger<Event, GenericEntityContext> {
+    public static final double MAX_RADIUS = 64;
+    public static final long DEFAULT_INTERVAL = 20;
+
+    private final Map<String, Aura> auras;
+
+    public AuraTrigger() {
+        super("aura", "aura:\\d+(\\.\\d+)?(:(enter|leave|stay(:\\d+)?))?", Event.class, GenericEntityContext.class, InventoryIterator.Constants.armorAndHands(), null, FunctionTargeter.ENTITY);
+        this.auras = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void init(@NotNull Ability ability) {
+        String[] split = ability.getProvidedTriggerIdentifier().split(":");
+
+        double radius;
+        long interval;
+        try {
+            radius = Double.parseDouble(split[1]);
+            interval = split.length > 3 ? Long.parseLong(split[3]) : DEFAULT_INTERVAL;
+        } catch (NumberFormatException ignored) {
+            LogUtil.log(LogUtil.Level.DEV, "There was an error trying to parse the trigger radius for the " + ability.getIdentifier() + " ability!");
+            throw new IllegalArgumentException("The provided trigger identifier cannot reasonably match the provided ability due to the radius not matching the double data type!");
+        }
+
+        if (radius > MAX_RADIUS) {
+            LogUtil.log(LogUtil.Level.WARNING, "The radius of the aura on the " + ability.getIdentifier() + " ability is larger than " + MAX_RADIUS + " blocks and was shortened!");
+            radius = MAX_RADIUS;
+        }
+
+        Aura.Transition transition = split.length > 2 ? Aura.Transition.valueOf(split[2].toUpperCase()) : Aura.Transition.STAY;
+
+        this.auras.put(ability.getIdentifier(), new Aura(radius, transition, Math.max(interval, 1)));
+    }
+
+    /**
+     * A method that returns the parsed parameters of an ability with this trigger
+     *
+     * @param ability the ability
+     * @return the parsed parameters (null if the ability was never initialized with this trigger)
+     */
+    @Nullable
+    public Aura getAura(@NotNull Ability ability) {
+        return this.auras.get(ability.getIdentifier());
+    }
+
+    @Override
+    @NotNull
+    @Deprecated
+    public Player fromEvent(@NotNull Event event) {
+        throw new UnsupportedOperationException("Congrats, you managed to execute an event that wasn't even registered! Yikes...");
+    }
+
+    @NotNull
+    @Override
+    @Deprecated
+    public GenericEntityContext trigger(@NotNull Event event, @NotNull CustomItem item, @NotNull Ability ability) {
+        throw new UnsupportedOperationException("Congrats, you managed to execute an event that wasn't even registered! Yikes...");
+    }
+
+    @Override
+    @NotNull
+    public TriggerRateLimiter.Scope getRateLimitScope() {
+        return TriggerRateLimiter.Scope.NONE;
+    }
+}
@@ -0,0 +1,103 @@
+package me.boboballoon.innovativeitems.items.ability.trigger.builtin.aura;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A class that represents a spatial hash grid that buckets values into square columns of the world, so many range queries in the same area share one pass over its values
+ *
+ * @param <T> the type of value stored in the grid
+ */
+public final class SpatialGrid<T> {
+    private final int shift;
+    private final Map<Long, List<Node<T>>> cells;
+
+    /**
+     * A constructor used to build an empty grid
+     *
+     * @param shift the size of a single cell as a power of two (4 means cells that are 16 blocks wide)
+     */
+    public SpatialGrid(int shift) {
+        this.shift = shift;
+        this.cells = new HashMap<>();
+    }
+
+    /**
+     * A method used to add a value to the grid
+     *
+     * @param value the value
+     * @param x the x coordinate of the value
+     * @param y the y coordinate of the value
+     * @param z the z coordinate of the value
+     */
+    public void insert(@NotNull T value, double x, double y, double z) {
+        long key = SpatialGrid.getKey((int) Math.floor(x) >> this.shift, (int) Math.floor(z) >> this.shift);
+        this.cells.computeIfAbsent(key, k -> new ArrayList<>()).add(new Node<>(value, x, y, z));
+    }
+
+    /**
+     * A method used to collect every value within a radius of a point
+     *
+     * @param x the x coordinate of the point
+     * @param y the y coordinate of the point
+     * @param z the z coordinate of the point
+     * @param radius the radius
+     * @param output the collection the values within the radius are added to
+     */
+    public void query(double x, double y, double z, double radius, @NotNull Collection<T> output) {
+        int minX = (int) Math.floor(x - radius) >> this.shift;
+        int maxX = (int) Math.floor(x + radius) >> this.shift;
+        int minZ = (int) Math.floor(z - radius) >> this.shift;
+        int maxZ = (int) Math.floor(z + radius) >> this.shift;
+        double squared = radius * radius;
+
+        for (int cellX = minX; cellX <= maxX; cellX++) {
+            for (int cellZ = minZ; cellZ <= maxZ; cellZ++) {
+                List<Node<T>> nodes = this.cells.get(SpatialGrid.getKey(cellX, cellZ));
+
+                if (nodes == null) {
+                    continue;
+                }
+
+                for (Node<T> node : nodes) {
+                    double dx = node.x - x;
+                    double dy = node.y - y;
+                    double dz = node.z - z;
+
+                    if (dx * dx + dy * dy + dz * dz <= squared) {
+                        output.add(node.value);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * A util method used to pack the coordinates of a cell into a single key
+     */
+    private static long getKey(int x, int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+
+    /**
+     * A class that represents a single value and the position it was inserted at
+     */
+    private static final class Node<T> {
+        private final T value;
+        private final double x;
+        private final double y;
+        private final double z;
+
+        private Node(@NotNull T value, double x, double y, double z) {
+            this.value = value;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+    }
+}
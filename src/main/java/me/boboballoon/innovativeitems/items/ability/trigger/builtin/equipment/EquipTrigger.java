@@ -0,0 +1,39 @@
+package me.boboballoon.innovativeitems.items.ability.trigger.builtin.equipment;
+
+import me.boboballoon.innovativeitems.functions.context.EquipmentContext;
+import me.boboballoon.innovativeitems.items.EquipmentChangeEvent;
+import me.boboballoon.innovativeitems.items.ability.Ability;
+import me.boboballoon.innovativeitems.items.ability.trigger.AbilityTrigger;
+import me.boboballoon.innovativeitems.items.ability.trigger.TriggerRateLimiter;
+import me.boboballoon.innovativeitems.items.item.CustomItem;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+
+/**
+ * A class that represents the "equip" ability trigger, fired when a custom item is put into an armor slot
+ */
+public class EquipTrigger extends AbilityTrigger<EquipmentChangeEvent, EquipmentContext> {
+    public EquipTrigger() {
+        super("equip", null, EquipmentChangeEvent.class, EquipmentContext.class, (event, player) -> Collections.singleton(event.getCurrent()), event -> event.isArmor() && event.getCurrent() != null);
+    }
+
+    @Override
+    @NotNull
+    public Player fromEvent(@NotNull EquipmentChangeEvent event) {
+        return event.getPlayer();
+    }
+
+    @NotNull
+    @Override
+    public EquipmentContext trigger(@NotNull EquipmentChangeEvent event, @NotNull CustomItem item, @NotNull Ability ability) {
+        return new EquipmentContext(event.getPlayer(), ability, item, event.getSlot());
+    }
+
+    @Override
+    @NotNull
+    public TriggerRateLimiter.Scope getRateLimitScope() {
+        return TriggerRateLimiter.Scope.NONE;
+    }
+}
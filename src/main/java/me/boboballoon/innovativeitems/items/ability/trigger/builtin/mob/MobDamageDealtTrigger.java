@@ -0,0 +1,49 @@
+package me.boboballoon.innovativeitems.items.ability.trigger.builtin.mob;
+
+import me.boboballoon.innovativeitems.InnovativeItems;
+import me.boboballoon.innovativeitems.functions.FunctionTargeter;
+import me.boboballoon.innovativeitems.functions.context.DamageContext;
+import me.boboballoon.innovativeitems.items.ability.Ability;
+import me.boboballoon.innovativeitems.items.ability.trigger.AbilityTrigger;
+import me.boboballoon.innovativeitems.items.item.CustomItem;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.Projectile;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A class that represents the "mob-damage-dealt" ability trigger, fired for the custom items of a mob when it or a projectile it shot damages a player (?entity is the mob and ?player is the victim)
+ */
+public class MobDamageDealtTrigger extends AbilityTrigger<EntityDamageByEntityEvent, DamageContext> {
+    public MobDamageDealtTrigger() {
+        super("mob-damage-dealt", null, EntityDamageByEntityEvent.class, DamageContext.class, (event, player) -> InnovativeItems.getInstance().getMobEquipmentIndex().getItems(MobDamageDealtTrigger.getDamager(event).getUniqueId()), event -> event.getEntity() instanceof Player && InnovativeItems.getInstance().getMobEquipmentIndex().isHolder(MobDamageDealtTrigger.getDamager(event).getUniqueId()), FunctionTargeter.ENTITY);
+    }
+
+    @Override
+    @NotNull
+    public Player fromEvent(@NotNull EntityDamageByEntityEvent event) {
+        return (Player) event.getEntity();
+    }
+
+    @NotNull
+    @Override
+    public DamageContext trigger(@NotNull EntityDamageByEntityEvent event, @NotNull CustomItem item, @NotNull Ability ability) {
+        return new DamageContext((Player) event.getEntity(), ability, (LivingEntity) MobDamageDealtTrigger.getDamager(event), false);
+    }
+
+    /**
+     * A util method used to get the entity that dealt the damage, resolving a projectile to the entity that shot it (shared with the mob-damage-taken trigger)
+     */
+    @NotNull
+    static Entity getDamager(@NotNull EntityDamageByEntityEvent event) {
+        Entity damager = event.getDamager();
+
+        if (damager instanceof Projectile && ((Projectile) damager).getShooter() instanceof Entity) {
+            return (Entity) ((Projectile) damager).getShooter();
+        }
+
+        return damager;
+    }
+}
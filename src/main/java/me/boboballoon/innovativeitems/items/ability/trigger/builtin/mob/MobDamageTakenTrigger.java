@@ -0,0 +1,33 @@
+package me.boboballoon.innovativeitems.items.ability.trigger.builtin.mob;
+
+import me.boboballoon.innovativeitems.InnovativeItems;
+import me.boboballoon.innovativeitems.functions.FunctionTargeter;
+import me.boboballoon.innovativeitems.functions.context.DamageContext;
+import me.boboballoon.innovativeitems.items.ability.Ability;
+import me.boboballoon.innovativeitems.items.ability.trigger.AbilityTrigger;
+import me.boboballoon.innovativeitems.items.item.CustomItem;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A class that represents the "mob-damage-taken" ability trigger, fired for the custom items of a mob when it is damaged by a player or a projectile a player shot (?entity is the mob and ?player is the attacker)
+ */
+public class MobDamageTakenTrigger extends AbilityTrigger<EntityDamageByEntityEvent, DamageContext> {
+    public MobDamageTakenTrigger() {
+        super("mob-damage-taken", null, EntityDamageByEntityEvent.class, DamageContext.class, (event, player) -> InnovativeItems.getInstance().getMobEquipmentIndex().getItems(event.getEntity().getUniqueId()), event -> MobDamageDealtTrigger.getDamager(event) instanceof Player && InnovativeItems.getInstance().getMobEquipmentIndex().isHolder(event.getEntity().getUniqueId()), FunctionTargeter.ENTITY);
+    }
+
+    @Override
+    @NotNull
+    public Player fromEvent(@NotNull EntityDamageByEntityEvent event) {
+        return (Player) MobDamageDealtTrigger.getDamager(event);
+    }
+
+    @NotNull
+    @Override
+    public DamageContext trigger(@NotNull EntityDamageByEntityEvent event, @NotNull CustomItem item, @NotNull Ability ability) {
+        return new DamageContext((Player) MobDamageDealtTrigger.getDamager(event), ability, (LivingEntity) event.getEntity(), true);
+    }
+}
@@ -0,0 +1,73 @@
+package me.boboballoon.innovativeitems.items.ability.trigger.builtin.movement;
+
+import me.boboballoon.innovativeitems.functions.context.GenericBlockContext;
+import me.boboballoon.innovativeitems.items.ability.Ability;
+import me.boboballoon.innovativeitems.items.item.CustomItem;
+import me.boboballoon.innovativeitems.util.LogUtil;
+import org.bukkit.Material;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A class that represents the "enter-material" ability trigger, fired when a player moves onto a block of the provided material
+ */
+public class EnterMaterialTrigger extends MovementTrigger {
+    private final Map<String, Material> materials;
+    private final Map<String, Set<UUID>> standing; //ability to the players whose last ground was its material
+
+    public EnterMaterialTrigger() {
+        super("enter-material", "enter-material:[a-zA-Z_]+", MovementTrigger::isNewBlock);
+        this.materials = new ConcurrentHashMap<>();
+        this.standing = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void init(@NotNull Ability ability) {
+        String raw = ability.getProvidedTriggerIdentifier().split(":")[1];
+        Material material = Material.matchMaterial(raw);
+        this.standing.remove(ability.getIdentifier());
+
+        if (material == null || !material.isBlock()) {
+            LogUtil.log(LogUtil.Level.WARNING, "The material " + raw + " on the trigger of the " + ability.getIdentifier() + " ability is not a block, so the ability will never fire!");
+            this.materials.remove(ability.getIdentifier());
+            return;
+        }
+
+        this.materials.put(ability.getIdentifier(), material);
+    }
+
+    @Nullable
+    @Override
+    public GenericBlockContext trigger(@NotNull PlayerMoveEvent event, @NotNull CustomItem item, @NotNull Ability ability) {
+        Block block = event.getTo().getBlock().getRelative(BlockFace.DOWN);
+        Material ground = block.getType();
+
+        //mid-jump or while falling the block below is air, the last ground is kept so landing on the same patch again does not fire
+        if (ground.isAir()) {
+            return null;
+        }
+
+        UUID uuid = event.getPlayer().getUniqueId();
+        Set<UUID> players = this.standing.computeIfAbsent(ability.getIdentifier(), key -> ConcurrentHashMap.newKeySet());
+
+        if (ground != this.materials.get(ability.getIdentifier())) {
+            players.remove(uuid);
+            return null;
+        }
+
+        //walking across a patch only fires when first entering it
+        if (!players.add(uuid)) {
+            return null;
+        }
+
+        return new GenericBlockContext(event.getPlayer(), ability, block);
+    }
+}
@@ -0,0 +1,10 @@
+package me.boboballoon.innovativeitems.items.ability.trigger.builtin.movement;
+
+/**
+ * A class that represents the "move-block" ability trigger, fired when a player moves into a different block
+ */
+public class MoveBlockTrigger extends MovementTrigger {
+    public MoveBlockTrigger() {
+        super("move-block", null, MovementTrigger::isNewBlock);
+    }
+}
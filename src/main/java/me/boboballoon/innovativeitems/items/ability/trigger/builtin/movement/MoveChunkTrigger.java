@@ -0,0 +1,10 @@
+package me.boboballoon.innovativeitems.items.ability.trigger.builtin.movement;
+
+/**
+ * A class that represents the "move-chunk" ability trigger, fired when a player moves into a different chunk
+ */
+public class MoveChunkTrigger extends MovementTrigger {
+    public MoveChunkTrigger() {
+        super("move-chunk", null, MovementTrigger::isNewChunk);
+    }
+}
@@ -0,0 +1,97 @@
+package me.boboballoon.innovativeitems.items.ability.trigger.builtin.movement;
+
+import me.boboballoon.innovativeitems.InnovativeItems;
+import me.boboballoon.innovativeitems.functions.FunctionTargeter;
+import me.boboballoon.innovativeitems.functions.context.GenericBlockContext;
+import me.boboballoon.innovativeitems.items.ability.Ability;
+import me.boboballoon.innovativeitems.items.ability.trigger.AbilityTrigger;
+import me.boboballoon.innovativeitems.items.ability.trigger.TriggerRateLimiter;
+import me.boboballoon.innovativeitems.items.item.CustomItem;
+import org.bukkit.Location;
+import org.bukkit.block.BlockFace;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * A class that is the superclass of every ability trigger fired by player movement, which only reacts when a coordinate boundary is crossed
+ */
+public abstract class MovementTrigger extends AbilityTrigger<PlayerMoveEvent, GenericBlockContext> {
+    /**
+     * A constructor used to build a movement trigger
+     *
+     * @param identifier the identifier of the trigger
+     * @param regex the regex used to parse the trigger (null if the identifier should be used)
+     * @param boundary a predicate that is true when the movement crossed the boundary the trigger reacts to (the destination is never null)
+     */
+    public MovementTrigger(@NotNull String identifier, @Nullable String regex, @NotNull Predicate<PlayerMoveEvent> boundary) {
+        //the equipment index is checked first, so players without movement abilities only pay for a set lookup on every head rotation
+        super(identifier, regex, PlayerMoveEvent.class, GenericBlockContext.class, (event, player) -> {
+            CustomItem[] items = InnovativeItems.getInstance().getEquipmentIndex().getEquipment(player.getUniqueId());
+            return items != null ? Arrays.asList(items) : Collections.emptyList();
+        }, event -> MovementTrigger.passesGate(InnovativeItems.getInstance().getEquipmentIndex().getMovementPlayers(), event, boundary), FunctionTargeter.BLOCK);
+    }
+
+    @Override
+    @NotNull
+    public Player fromEvent(@NotNull PlayerMoveEvent event) {
+        return event.getPlayer();
+    }
+
+    @Nullable
+    @Override
+    public GenericBlockContext trigger(@NotNull PlayerMoveEvent event, @NotNull CustomItem item, @NotNull Ability ability) {
+        return new GenericBlockContext(event.getPlayer(), ability, event.getTo().getBlock().getRelative(BlockFace.DOWN));
+    }
+
+    /**
+     * A util method that returns true if a move event should be handed to a movement trigger
+     *
+     * @param movers the uuids of the players wearing items with movement abilities
+     * @param event the move event
+     * @param boundary a predicate that is true when the movement crossed the boundary the trigger reacts to
+     * @return true if a move event should be handed to a movement trigger
+     */
+    public static boolean passesGate(@NotNull Set<UUID> movers, @NotNull PlayerMoveEvent event, @NotNull Predicate<PlayerMoveEvent> boundary) {
+        return movers.contains(event.getPlayer().getUniqueId()) && event.getTo() != null && boundary.test(event);
+    }
+
+    /**
+     * A util method that returns true if the player moved into a different block
+     *
+     * @param event the move event
+     * @return true if the player moved into a different block
+     */
+    public static boolean isNewBlock(@NotNull PlayerMoveEvent event) {
+        Location from = event.getFrom();
+        Location to = event.getTo();
+
+        return from.getBlockX() != to.getBlockX() || from.getBlockY() != to.getBlockY() || from.getBlockZ() != to.getBlockZ() || from.getWorld() != to.getWorld();
+    }
+
+    /**
+     * A util method that returns true if the player moved into a different chunk
+     *
+     * @param event the move event
+     * @return true if the player moved into a different chunk
+     */
+    public static boolean isNewChunk(@NotNull PlayerMoveEvent event) {
+        Location from = event.getFrom();
+        Location to = event.getTo();
+
+        return (from.getBlockX() >> 4) != (to.getBlockX() >> 4) || (from.getBlockZ() >> 4) != (to.getBlockZ() >> 4) || from.getWorld() != to.getWorld();
+    }
+
+    @Override
+    @NotNull
+    public TriggerRateLimiter.Scope getRateLimitScope() {
+        return TriggerRateLimiter.Scope.NONE;
+    }
+}
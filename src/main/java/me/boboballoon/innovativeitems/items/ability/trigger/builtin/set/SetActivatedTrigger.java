@@ -0,0 +1,42 @@
+package me.boboballoon.innovativeitems.items.ability.trigger.builtin.set;
+
+import me.boboballoon.innovativeitems.functions.context.RuntimeContext;
+import me.boboballoon.innovativeitems.items.ability.Ability;
+import me.boboballoon.innovativeitems.items.ability.trigger.AbilityTrigger;
+import me.boboballoon.innovativeitems.items.ability.trigger.InventoryIterator;
+import me.boboballoon.innovativeitems.items.ability.trigger.ManuallyRegister;
+import me.boboballoon.innovativeitems.items.ability.trigger.TriggerRateLimiter;
+import me.boboballoon.innovativeitems.items.item.CustomItem;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A class that represents the "set-activated" ability trigger, fired by the item set tracker when a set bonus is activated
+ */
+@ManuallyRegister
+public class SetActivatedTrigger extends AbilityTrigger<Event, RuntimeContext> {
+    public SetActivatedTrigger() {
+        super("set-activated", null, Event.class, RuntimeContext.class, InventoryIterator.Constants.armorAndHands(), null);
+    }
+
+    @Override
+    @NotNull
+    @Deprecated
+    public Player fromEvent(@NotNull Event event) {
+        throw new UnsupportedOperationException("Congrats, you managed to execute an event that wasn't even registered! Yikes...");
+    }
+
+    @NotNull
+    @Override
+    @Deprecated
+    public RuntimeContext trigger(@NotNull Event event, @NotNull CustomItem item, @NotNull Ability ability) {
+        throw new UnsupportedOperationException("Congrats, you managed to execute an event that wasn't even registered! Yikes...");
+    }
+
+    @Override
+    @NotNull
+    public TriggerRateLimiter.Scope getRateLimitScope() {
+        return TriggerRateLimiter.Scope.NONE;
+    }
+}
@@ -1,48 +1,355 @@
 package me.boboballoon.innovativeitems.items.ability.trigger.builtin.timer;
 
+import me.boboballoon.innovativeitems.InnovativeItems;
 import me.boboballoon.innovativeitems.items.ability.Ability;
+import me.boboballoon.innovativeitems.items.item.CustomItem;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 /**
- * A class that is responsible for holding ability trigger timers in memory during runtime
+ * A class that is responsible for holding ability trigger timers in memory during runtime and firing them from a single timing wheel
  */
 public final class AbilityTimerManager {
-    private final Map<Long, AbilityTimerClock> timers;
+    private final TimingWheel<Firing> wheel;
+    private final Map<String, Timer> timers;
+    private final Map<UUID, Map<String, TimingWheel.Entry<Firing>>> scheduled;
+    private final BukkitTask task;
 
     public AbilityTimerManager() {
+        this.wheel = new TimingWheel<>();
         this.timers = new HashMap<>();
+        this.scheduled = new HashMap<>();
+        this.task = Bukkit.getScheduler().runTaskTimer(InnovativeItems.getInstance(), this::tick, 1L, 1L);
     }
 
     /**
-     * A method used to place an ability in an existing timer or build a new one
+     * A method used to place an ability on the timing wheel
      *
      * @param ability the ability that needs a timer
      * @param timer the delay in between executions
      */
     public void registerTimer(@NotNull Ability ability, long timer) {
-        if (!(ability.getTrigger() instanceof TimerTrigger)) {
+        this.registerTimer(ability, timer, false);
+    }
+
+    /**
+     * A method used to place an ability on the timing wheel (an ability that was registered before the last invalidation with the same delay keeps its schedule)
+     *
+     * @param ability the ability that needs a timer
+     * @param timer the delay in between executions
+     * @param sharded whether each player should be fired on their own tick within the delay instead of all at once
+     */
+    public synchronized void registerTimer(@NotNull Ability ability, long timer, boolean sharded) {
+        if (!(ability.getTrigger() instanceof TimerTrigger) || timer < 1) {
             return;
         }
 
-        if (this.timers.containsKey(timer)) {
-            this.timers.get(timer).addAbility(ability);
+        sharded &= timer > 1; //a delay of one tick cannot be spread out
+        timer = Math.min(timer, TimingWheel.MAX_DELAY);
+
+        Timer existing = this.timers.get(ability.getIdentifier());
+
+        if (existing != null && existing.interval == timer && existing.sharded == sharded) {
+            existing.stale = false;
             return;
         }
 
-        this.timers.put(timer, new AbilityTimerClock(timer, ability));
+        if (existing != null) {
+            this.cancel(existing.identifier);
+        }
+
+        this.timers.put(ability.getIdentifier(), new Timer(ability.getIdentifier(), timer, sharded));
     }
 
     /**
-     * A method used to wipe all data currently in the cache
+     * A method used to update the timers scheduled for a player to match their equipment (must be called on the main thread)
+     *
+     * @param uuid the uuid of the player
+     * @param items the custom items the player has equipped (elements can be null)
      */
-    public void clearCache() {
-        for (AbilityTimerClock trigger : this.timers.values()) {
-            trigger.cancel();
+    public synchronized void update(@NotNull UUID uuid, @NotNull CustomItem[] items) {
+        Set<String> equipped = new HashSet<>();
+
+        for (CustomItem item : items) {
+            if (item == null) {
+                continue;
+            }
+
+            for (Ability ability : item.getAbilities()) {
+                if (ability.getTrigger() instanceof TimerTrigger && this.timers.containsKey(ability.getIdentifier())) {
+                    equipped.add(ability.getIdentifier());
+                }
+            }
         }
 
+        Map<String, TimingWheel.Entry<Firing>> entries = this.scheduled.get(uuid);
+
+        if (entries != null) {
+            Iterator<Map.Entry<String, TimingWheel.Entry<Firing>>> iterator = entries.entrySet().iterator();
+
+            while (iterator.hasNext()) {
+                Map.Entry<String, TimingWheel.Entry<Firing>> entry = iterator.next();
+
+                if (!equipped.remove(entry.getKey())) {
+                    entry.getValue().cancel();
+                    iterator.remove();
+                }
+            }
+        }
+
+        if (equipped.isEmpty()) {
+            if (entries != null && entries.isEmpty()) {
+                this.scheduled.remove(uuid);
+            }
+            return;
+        }
+
+        if (entries == null) {
+            entries = new HashMap<>();
+            this.scheduled.put(uuid, entries);
+        }
+
+        for (String identifier : equipped) {
+            Timer timer = this.timers.get(identifier);
+            entries.put(identifier, this.wheel.schedule(new Firing(uuid, timer), this.getFirstDelay(uuid, timer)));
+        }
+    }
+
+    /**
+     * A method used to remove every timer scheduled for a player
+     *
+     * @param uuid the uuid of the player
+     */
+    public synchronized void remove(@NotNull UUID uuid) {
+        Map<String, TimingWheel.Entry<Firing>> entries = this.scheduled.remove(uuid);
+
+        if (entries == null) {
+            return;
+        }
+
+        for (TimingWheel.Entry<Firing> entry : entries.values()) {
+            entry.cancel();
+        }
+    }
+
+    /**
+     * A method used to mark every timer as stale before a reload, stale timers are removed by prune unless they are registered again
+     */
+    public synchronized void invalidate() {
+        for (Timer timer : this.timers.values()) {
+            timer.stale = true;
+        }
+    }
+
+    /**
+     * A method used to mark a single timer as stale before its ability is parsed again, it is removed by prune unless it is registered again
+     *
+     * @param identifier the identifier of the ability
+     */
+    public synchronized void invalidate(@NotNull String identifier) {
+        Timer timer = this.timers.get(identifier);
+
+        if (timer != null) {
+            timer.stale = true;
+        }
+    }
+
+    /**
+     * A method used to remove every timer that was not registered again since the last invalidation
+     */
+    public synchronized void prune() {
+        Iterator<Timer> iterator = this.timers.values().iterator();
+
+        while (iterator.hasNext()) {
+            Timer timer = iterator.next();
+
+            if (timer.stale) {
+                iterator.remove();
+                this.cancel(timer.identifier);
+            }
+        }
+    }
+
+    /**
+     * A method that returns the amount of player and ability pairs currently scheduled
+     *
+     * @return the amount of player and ability pairs currently scheduled
+     */
+    public synchronized int getScheduled() {
+        int scheduled = 0;
+
+        for (Map<String, TimingWheel.Entry<Firing>> entries : this.scheduled.values()) {
+            scheduled += entries.size();
+        }
+
+        return scheduled;
+    }
+
+    /**
+     * A method used to wipe all data currently in the cache
+     */
+    public synchronized void clearCache() {
+        this.wheel.clear();
         this.timers.clear();
+        this.scheduled.clear();
+    }
+
+    /**
+     * A method used to stop the tick task
+     */
+    public void shutdown() {
+        this.task.cancel();
+        this.clearCache();
+    }
+
+    /**
+     * A method that returns the stable tick within the delay on which a player is fired by sharded timers
+     *
+     * @param uuid the uuid of the player
+     * @param timer the delay in between each trigger
+     * @return the tick within the delay on which the player is fired
+     */
+    public static long getPhase(@NotNull UUID uuid, long timer) {
+        return Math.floorMod(uuid.getMostSignificantBits() ^ uuid.getLeastSignificantBits(), timer);
+    }
+
+    /**
+     * A method used to advance the wheel by one tick and fire every timer that expired on it (called on the main thread)
+     */
+    private void tick() {
+        List<Firing> due = new ArrayList<>();
+
+        synchronized (this) {
+            for (Firing firing : this.wheel.advance()) {
+                Timer timer = this.timers.get(firing.timer.identifier);
+
+                //the timer was replaced or removed since the firing was scheduled
+                if (timer != firing.timer) {
+                    continue;
+                }
+
+                Map<String, TimingWheel.Entry<Firing>> entries = this.scheduled.get(firing.player);
+
+                if (entries == null) {
+                    continue;
+                }
+
+                entries.put(timer.identifier, this.wheel.schedule(firing, timer.interval));
+                due.add(firing);
+            }
+        }
+
+        if (due.isEmpty()) {
+            return;
+        }
+
+        List<UUID> players = new ArrayList<>(due.size());
+        for (Firing firing : due) {
+            players.add(firing.player);
+        }
+
+        //every firing on this tick shares one copy of each player's indexed equipment
+        TimerSnapshot snapshot = TimerSnapshot.capture(this.wheel.getTick(), players);
+
+        for (Firing firing : due) {
+            this.fire(firing, snapshot);
+        }
+    }
+
+    /**
+     * A util method used to execute an expired timer off the main thread once for every equipped item in the snapshot that has its ability
+     */
+    private void fire(@NotNull Firing firing, @NotNull TimerSnapshot snapshot) {
+        Player player = snapshot.getPlayer(firing.player);
+        CustomItem[] items = snapshot.getEquipment(firing.player);
+
+        if (player == null || items == null) {
+            return;
+        }
+
+        String identifier = firing.timer.identifier;
+
+        for (CustomItem item : items) {
+            if (item == null) {
+                continue;
+            }
+
+            for (Ability ability : item.getAbilities()) {
+                if (ability.getIdentifier().equals(identifier) && ability.getTrigger() instanceof TimerTrigger) {
+                    Bukkit.getScheduler().runTaskAsynchronously(InnovativeItems.getInstance(), () -> ability.execute(player));
+                }
+            }
+        }
+    }
+
+    /**
+     * A util method used to get the amount of ticks until a timer should first fire for a player
+     */
+    private long getFirstDelay(@NotNull UUID uuid, @NotNull Timer timer) {
+        long tick = this.wheel.getTick();
+        long phase = timer.sharded ? AbilityTimerManager.getPhase(uuid, timer.interval) : 0;
+        long delay = Math.floorMod(phase - tick, timer.interval);
+        return delay == 0 ? timer.interval : delay;
+    }
+
+    /**
+     * A util method used to cancel the firings of a timer for every player
+     */
+    private void cancel(@NotNull String identifier) {
+        Iterator<Map<String, TimingWheel.Entry<Firing>>> iterator = this.scheduled.values().iterator();
+
+        while (iterator.hasNext()) {
+            Map<String, TimingWheel.Entry<Firing>> entries = iterator.next();
+            TimingWheel.Entry<Firing> entry = entries.remove(identifier);
+
+            if (entry != null) {
+                entry.cancel();
+            }
+
+            if (entries.isEmpty()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * A class that represents an ability fired on a timer
+     */
+    private static final class Timer {
+        private final String identifier;
+        private final long interval;
+        private final boolean sharded;
+        private boolean stale;
+
+        private Timer(@NotNull String identifier, long interval, boolean sharded) {
+            this.identifier = identifier;
+            this.interval = interval;
+            this.sharded = sharded;
+            this.stale = false;
+        }
+    }
+
+    /**
+     * A class that represents a single timer scheduled for a single player
+     */
+    private static final class Firing {
+        private final UUID player;
+        private final Timer timer;
+
+        private Firing(@NotNull UUID player, @NotNull Timer timer) {
+            this.player = player;
+            this.timer = timer;
+        }
     }
 }
@@ -0,0 +1,101 @@
+package me.boboballoon.innovativeitems.items.ability.trigger.builtin.timer;
+
+import me.boboballoon.innovativeitems.InnovativeItems;
+import me.boboballoon.innovativeitems.items.EquipmentIndex;
+import me.boboballoon.innovativeitems.items.item.CustomItem;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A class that represents the equipped custom items of every player with a timer due on a single tick, copied once from the equipment index on the main thread and shared by every firing on that tick
+ */
+public final class TimerSnapshot {
+    private final long tick;
+    private final Map<UUID, Player> players;
+    private final Map<UUID, CustomItem[]> equipment;
+
+    private TimerSnapshot(long tick, @NotNull Map<UUID, Player> players, @NotNull Map<UUID, CustomItem[]> equipment) {
+        this.tick = tick;
+        this.players = players;
+        this.equipment = equipment;
+    }
+
+    /**
+     * A method that returns the tick of the timing wheel the snapshot was taken on
+     *
+     * @return the tick of the timing wheel the snapshot was taken on
+     */
+    public long getTick() {
+        return this.tick;
+    }
+
+    /**
+     * A method that returns an online player in the snapshot
+     *
+     * @param uuid the uuid of the player
+     * @return the player (null if the player was not online when the snapshot was taken)
+     */
+    @Nullable
+    public Player getPlayer(@NotNull UUID uuid) {
+        return this.players.get(uuid);
+    }
+
+    /**
+     * A method that returns the custom items a player had equipped when the snapshot was taken, indexed by the ordinal of RevisedEquipmentSlot (must not be modified)
+     *
+     * @param uuid the uuid of the player
+     * @return the custom items the player had equipped (null if the player was not online, elements can be null)
+     */
+    @Nullable
+    public CustomItem[] getEquipment(@NotNull UUID uuid) {
+        return this.equipment.get(uuid);
+    }
+
+    /**
+     * A method that returns the amount of players in the snapshot
+     *
+     * @return the amount of players in the snapshot
+     */
+    public int size() {
+        return this.players.size();
+    }
+
+    /**
+     * A method used to copy the indexed equipment of the provided players once (must be called on the main thread)
+     *
+     * @param tick the tick of the timing wheel
+     * @param uuids the uuids of the players with at least one timer due (duplicates are read once)
+     * @return the snapshot
+     */
+    @NotNull
+    public static TimerSnapshot capture(long tick, @NotNull Collection<UUID> uuids) {
+        EquipmentIndex index = InnovativeItems.getInstance().getEquipmentIndex();
+        Map<UUID, Player> players = new HashMap<>();
+        Map<UUID, CustomItem[]> equipment = new HashMap<>();
+
+        for (UUID uuid : uuids) {
+            if (players.containsKey(uuid)) {
+                continue;
+            }
+
+            Player player = Bukkit.getPlayer(uuid);
+            CustomItem[] items = index.getEquipment(uuid); //no inventory is read here, changes no event reports are caught by the periodic full rescan
+
+            if (player == null || items == null) {
+                continue;
+            }
+
+            players.put(uuid, player);
+            equipment.put(uuid, items);
+        }
+
+        return new TimerSnapshot(tick, players, equipment);
+    }
+}
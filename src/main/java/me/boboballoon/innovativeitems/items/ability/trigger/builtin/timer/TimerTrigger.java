@@ -6,6 +6,7 @@ import me.boboballoon.innovativeitems.items.ability.Ability;
 import me.boboballoon.innovativeitems.items.ability.trigger.AbilityTrigger;
 import me.boboballoon.innovativeitems.items.ability.trigger.InventoryIterator;
 import me.boboballoon.innovativeitems.items.ability.trigger.ManuallyRegister;
+import me.boboballoon.innovativeitems.items.ability.trigger.TriggerRateLimiter;
 import me.boboballoon.innovativeitems.items.item.CustomItem;
 import me.boboballoon.innovativeitems.util.LogUtil;
 import org.bukkit.entity.Player;
@@ -18,22 +19,33 @@ import org.jetbrains.annotations.NotNull;
 @ManuallyRegister
 public class TimerTrigger extends AbilityTrigger<Event, RuntimeContext> {
     public TimerTrigger() {
-        super("timer", "timer:\\d+", Event.class, RuntimeContext.class, InventoryIterator.Constants.armorAndHands(), null);
+        super("timer", "timer:\\d+(:(sharded|aligned))?", Event.class, RuntimeContext.class, InventoryIterator.Constants.armorAndHands(), null);
     }
 
     @Override
     public void init(@NotNull Ability ability) {
+        String[] split = ability.getProvidedTriggerIdentifier().split(":");
+
         long timer;
         try {
-            timer = Long.parseLong(ability.getProvidedTriggerIdentifier().split(":")[1]);
+            timer = Long.parseLong(split[1]);
         } catch (NumberFormatException ignored) {
             LogUtil.log(LogUtil.Level.DEV, "There was an error trying to parse the trigger delay for the " + ability.getIdentifier() + " ability!");
             throw new IllegalArgumentException("The provided trigger identifier cannot reasonably match the provided ability due to the delay not matching the long data type!");
         }
 
+        //sharded timers fire each player on their own tick within the interval, long intervals are sharded unless told otherwise
+        boolean sharded;
+        if (split.length > 2) {
+            sharded = split[2].equals("sharded");
+        } else {
+            long threshold = InnovativeItems.getInstance().getConfigManager().getTimerShardingThreshold();
+            sharded = threshold > 0 && timer >= threshold;
+        }
+
         AbilityTimerManager manager = InnovativeItems.getInstance().getAbilityTimerManager();
 
-        manager.registerTimer(ability, timer);
+        manager.registerTimer(ability, timer, sharded);
     }
 
     @Override
@@ -49,4 +61,10 @@ public class TimerTrigger extends AbilityTrigger<Event, RuntimeContext> {
     public RuntimeContext trigger(@NotNull Event event, @NotNull CustomItem item, @NotNull Ability ability) {
         throw new UnsupportedOperationException("Congrats, you managed to execute an event that wasn't even registered! Yikes...");
     }
+
+    @Override
+    @NotNull
+    public TriggerRateLimiter.Scope getRateLimitScope() {
+        return TriggerRateLimiter.Scope.NONE;
+    }
 }
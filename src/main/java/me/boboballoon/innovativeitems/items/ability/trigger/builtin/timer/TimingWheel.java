@@ -0,0 +1,209 @@
+package me.boboballoon.innovativeitems.items.ability.trigger.builtin.timer;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A class that represents a hierarchical timing wheel, where scheduling, cancelling and expiring a value are all O(1) (not thread safe)
+ *
+ * @param <T> the type of the scheduled values
+ */
+public final class TimingWheel<T> {
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS; //64 slots per level
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 4; //64^4 ticks, roughly 9.7 days
+    public static final long MAX_DELAY = (1L << (BITS * LEVELS)) - 1;
+
+    private final Entry<T>[][] wheels;
+    private long tick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel() {
+        this.wheels = new Entry[LEVELS][SLOTS];
+        this.tick = 0;
+        this.size = 0;
+    }
+
+    /**
+     * A method that returns the amount of times the wheel has been advanced
+     *
+     * @return the amount of times the wheel has been advanced
+     */
+    public long getTick() {
+        return this.tick;
+    }
+
+    /**
+     * A method that returns the amount of values currently in the wheel (cancelled values are counted until they are reached)
+     *
+     * @return the amount of values currently in the wheel
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * A method used to schedule a value to expire after the provided amount of ticks
+     *
+     * @param value the value to schedule
+     * @param delay the amount of ticks until the value expires (clamped between 1 and MAX_DELAY)
+     * @return the entry of the scheduled value, which can be used to cancel it
+     */
+    @NotNull
+    public Entry<T> schedule(@NotNull T value, long delay) {
+        Entry<T> entry = new Entry<>(value, this.tick + Math.max(1, Math.min(delay, MAX_DELAY)));
+        this.insert(entry);
+        this.size++;
+        return entry;
+    }
+
+    /**
+     * A method used to advance the wheel by one tick
+     *
+     * @return every value that expired on the new tick and was not cancelled
+     */
+    @NotNull
+    public List<T> advance() {
+        this.tick++;
+
+        //move entries from higher levels down once the lower level has wrapped, highest level first so cascaded entries keep cascading
+        int levels = 1;
+        while (levels < LEVELS && (this.tick & ((1L << (BITS * levels)) - 1)) == 0) {
+            levels++;
+        }
+
+        for (int level = levels - 1; level > 0; level--) {
+            int slot = (int) ((this.tick >>> (BITS * level)) & MASK);
+            Entry<T> entry = this.wheels[level][slot];
+            this.wheels[level][slot] = null;
+
+            while (entry != null) {
+                Entry<T> next = entry.next;
+                entry.next = null;
+
+                if (entry.cancelled) {
+                    this.size--;
+                } else {
+                    this.insert(entry);
+                }
+
+                entry = next;
+            }
+        }
+
+        int slot = (int) (this.tick & MASK);
+        Entry<T> entry = this.wheels[0][slot];
+        this.wheels[0][slot] = null;
+
+        List<T> expired = new ArrayList<>();
+
+        while (entry != null) {
+            Entry<T> next = entry.next;
+            entry.next = null;
+            this.size--;
+
+            if (!entry.cancelled) {
+                entry.cancelled = true; //an expired entry can no longer be cancelled
+                expired.add(entry.value);
+            }
+
+            entry = next;
+        }
+
+        return expired;
+    }
+
+    /**
+     * A method used to remove every value from the wheel
+     */
+    public void clear() {
+        for (Entry<T>[] wheel : this.wheels) {
+            for (int i = 0; i < SLOTS; i++) {
+                Entry<T> entry = wheel[i];
+
+                while (entry != null) {
+                    entry.cancelled = true;
+                    entry = entry.next;
+                }
+
+                wheel[i] = null;
+            }
+        }
+
+        this.size = 0;
+    }
+
+    /**
+     * A util method used to place an entry on the lowest level whose range contains its deadline
+     */
+    private void insert(@NotNull Entry<T> entry) {
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = BITS * (level + 1);
+
+            if (level == LEVELS - 1 || (entry.deadline >>> shift) == (this.tick >>> shift)) {
+                int slot = (int) ((entry.deadline >>> (BITS * level)) & MASK);
+                entry.next = this.wheels[level][slot];
+                this.wheels[level][slot] = entry;
+                return;
+            }
+        }
+    }
+
+    /**
+     * A class that represents a single value scheduled in a timing wheel
+     *
+     * @param <T> the type of the scheduled value
+     */
+    public static final class Entry<T> {
+        private final T value;
+        private final long deadline;
+        private Entry<T> next;
+        private boolean cancelled;
+
+        private Entry(@NotNull T value, long deadline) {
+            this.value = value;
+            this.deadline = deadline;
+            this.next = null;
+            this.cancelled = false;
+        }
+
+        /**
+         * A method that returns the scheduled value
+         *
+         * @return the scheduled value
+         */
+        @NotNull
+        public T getValue() {
+            return this.value;
+        }
+
+        /**
+         * A method that returns the tick on which the value expires
+         *
+         * @return the tick on which the value expires
+         */
+        public long getDeadline() {
+            return this.deadline;
+        }
+
+        /**
+         * A method that returns true if the value was cancelled or has already expired
+         *
+         * @return true if the value was cancelled or has already expired
+         */
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        /**
+         * A method used to stop the value from expiring (the entry is dropped lazily once the wheel reaches it)
+         */
+        public void cancel() {
+            this.cancelled = true;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package me.boboballoon.innovativeitems.items.item;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Multimap;
 import de.tr7zw.nbtapi.NBTItem;
 import me.boboballoon.innovativeitems.items.ability.Ability;
@@ -12,11 +13,13 @@ import org.bukkit.inventory.ItemFlag;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.Recipe;
 import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.potion.PotionEffectType;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * A class that is the superclass of all custom items
@@ -24,28 +27,46 @@ import java.util.Map;
 public final class CustomItem {
     private final String identifier;
     private final ImmutableList<Ability> abilities;
-    private final ItemStack item;
+    private final Material material;
+    private volatile ItemStack item;
+    private Supplier<ItemStack> factory; //released once the itemstack is built
     private final boolean placeable;
     private final boolean soulbound;
     private final boolean wearable;
     private final int maxDurability;
     private final boolean updateItem;
     private final ImmutableList<Recipe> recipes;
+    private final ImmutableMap<PotionEffectType, Integer> passiveEffects;
 
     public CustomItem(@NotNull String identifier, @NotNull ImmutableList<Ability> abilities, @NotNull Material material, @Nullable String itemName, @Nullable List<String> lore, @Nullable Map<Enchantment, Integer> enchantments, @Nullable List<ItemFlag> flags, @Nullable Multimap<Attribute, AttributeModifier> attributes, @Nullable Integer customModelData, boolean unbreakable, boolean placeable, boolean soulbound, boolean wearable, int maxDurability, boolean updateItem, @Nullable ImmutableList<Recipe> recipes) {
         this(identifier, abilities, CustomItem.generateItem(identifier, material, itemName, lore, enchantments, flags, attributes, customModelData, unbreakable, material.getMaxDurability() != 0 && maxDurability > 0 ? maxDurability : material.getMaxDurability() != 0 ? material.getMaxDurability() : 0), placeable, soulbound, wearable, maxDurability, updateItem, recipes);
     }
 
     public CustomItem(@NotNull String identifier, @NotNull ImmutableList<Ability> abilities, @NotNull ItemStack item, boolean placeable, boolean soulbound, boolean wearable, int maxDurability, boolean updateItem, @Nullable ImmutableList<Recipe> recipes) {
+        this(identifier, abilities, item, placeable, soulbound, wearable, maxDurability, updateItem, recipes, null);
+    }
+
+    public CustomItem(@NotNull String identifier, @Nullable ImmutableList<Ability> abilities, @NotNull ItemStack item, boolean placeable, boolean soulbound, boolean wearable, int maxDurability, boolean updateItem, @Nullable ImmutableList<Recipe> recipes, @Nullable ImmutableMap<PotionEffectType, Integer> passiveEffects) {
+        this(identifier, abilities, item.getType(), item, null, placeable, soulbound, wearable, maxDurability, updateItem, recipes, passiveEffects);
+    }
+
+    public CustomItem(@NotNull String identifier, @Nullable ImmutableList<Ability> abilities, @NotNull Material material, @NotNull Supplier<ItemStack> factory, boolean placeable, boolean soulbound, boolean wearable, int maxDurability, boolean updateItem, @Nullable ImmutableList<Recipe> recipes, @Nullable ImmutableMap<PotionEffectType, Integer> passiveEffects) {
+        this(identifier, abilities, material, null, factory, placeable, soulbound, wearable, maxDurability, updateItem, recipes, passiveEffects);
+    }
+
+    private CustomItem(@NotNull String identifier, @Nullable ImmutableList<Ability> abilities, @NotNull Material material, @Nullable ItemStack item, @Nullable Supplier<ItemStack> factory, boolean placeable, boolean soulbound, boolean wearable, int maxDurability, boolean updateItem, @Nullable ImmutableList<Recipe> recipes, @Nullable ImmutableMap<PotionEffectType, Integer> passiveEffects) {
         this.identifier = identifier;
-        this.abilities = abilities;
+        this.abilities = abilities != null ? abilities : ImmutableList.of(); //items without an ability field are parsed with null
+        this.material = material;
         this.item = item;
+        this.factory = factory;
         this.placeable = placeable;
         this.soulbound = soulbound;
         this.wearable = wearable;
-        this.maxDurability = item.getType().getMaxDurability() != 0 && maxDurability > 0 ? maxDurability : item.getType().getMaxDurability() != 0 ? item.getType().getMaxDurability() : 0;
+        this.maxDurability = material.getMaxDurability() != 0 && maxDurability > 0 ? maxDurability : material.getMaxDurability() != 0 ? material.getMaxDurability() : 0;
         this.updateItem = updateItem;
         this.recipes = recipes;
+        this.passiveEffects = passiveEffects != null ? passiveEffects : ImmutableMap.of();
     }
 
     /**
@@ -68,12 +89,44 @@ public final class CustomItem {
     }
 
     /**
-     * A method used to get the itemstack that represents this custom item
+     * A method used to get the itemstack that represents this custom item, the itemstack is built the first time it is needed
      *
      * @return an itemstack that represents this custom item
      */
     public ItemStack getItemStack() {
-        return this.item;
+        ItemStack item = this.item;
+
+        if (item != null) {
+            return item;
+        }
+
+        synchronized (this) {
+            if (this.item == null) {
+                this.item = this.factory.get();
+                this.factory = null;
+            }
+
+            return this.item;
+        }
+    }
+
+    /**
+     * A method used to get the material of the itemstack that represents this custom item without building it
+     *
+     * @return the material of the itemstack that represents this custom item
+     */
+    @NotNull
+    public Material getMaterial() {
+        return this.material;
+    }
+
+    /**
+     * A method used to get if the itemstack that represents this custom item was built already
+     *
+     * @return true if the itemstack that represents this custom item was built already
+     */
+    public boolean isMaterialized() {
+        return this.item != null;
     }
 
     /**
@@ -132,6 +185,16 @@ public final class CustomItem {
         return this.recipes;
     }
 
+    /**
+     * A method used to get the potion effects applied to a player while this custom item is equipped
+     *
+     * @return the potion effects applied while this custom item is equipped, mapped to their amplifier
+     */
+    @NotNull
+    public ImmutableMap<PotionEffectType, Integer> getPassiveEffects() {
+        return this.passiveEffects;
+    }
+
     /**
      * A method used to generate an itemstack based on this items internal values
      *
@@ -0,0 +1,57 @@
+package me.boboballoon.innovativeitems.items.set;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A class that represents a group of custom items that grant bonuses when several of them are equipped at once
+ */
+public final class ItemSet {
+    private final String identifier;
+    private final ImmutableSet<String> members;
+    private final ImmutableList<SetBonus> bonuses;
+
+    /**
+     * A constructor used to build an item set
+     *
+     * @param identifier the internal name of the item set
+     * @param members the identifiers of the custom items that are pieces of the set
+     * @param bonuses the bonuses of the set sorted by the amount of pieces they need
+     */
+    public ItemSet(@NotNull String identifier, @NotNull ImmutableSet<String> members, @NotNull ImmutableList<SetBonus> bonuses) {
+        this.identifier = identifier;
+        this.members = members;
+        this.bonuses = bonuses;
+    }
+
+    /**
+     * A method used to get the internal name of the item set
+     *
+     * @return the internal name of the item set
+     */
+    @NotNull
+    public String getIdentifier() {
+        return this.identifier;
+    }
+
+    /**
+     * A method used to get the identifiers of the custom items that are pieces of the set
+     *
+     * @return the identifiers of the custom items that are pieces of the set
+     */
+    @NotNull
+    public ImmutableSet<String> getMembers() {
+        return this.members;
+    }
+
+    /**
+     * A method used to get the bonuses of the set sorted by the amount of pieces they need
+     *
+     * @return the bonuses of the set sorted by the amount of pieces they need
+     */
+    @NotNull
+    public ImmutableList<SetBonus> getBonuses() {
+        return this.bonuses;
+    }
+}
@@ -0,0 +1,286 @@
+package me.boboballoon.innovativeitems.items.set;
+
+import me.boboballoon.innovativeitems.InnovativeItems;
+import me.boboballoon.innovativeitems.items.ability.Ability;
+import me.boboballoon.innovativeitems.items.ability.trigger.builtin.set.SetActivatedTrigger;
+import me.boboballoon.innovativeitems.items.ability.trigger.builtin.set.SetDeactivatedTrigger;
+import me.boboballoon.innovativeitems.items.item.CustomItem;
+import me.boboballoon.innovativeitems.util.LogUtil;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.potion.PotionEffectType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A class used to keep an incrementally updated count of the item set pieces every online player has equipped and fire set bonuses when a threshold is crossed
+ */
+public final class ItemSetTracker implements Listener {
+    private static final int ARMOR_SLOTS = 4; //HEAD, CHEST, LEGS and FEET are the first slots of RevisedEquipmentSlot
+
+    private final Map<UUID, State> states;
+    private volatile Map<String, ItemSet> sets;
+    private volatile Map<String, List<ItemSet>> membership;
+
+    public ItemSetTracker() {
+        this.states = new ConcurrentHashMap<>();
+        this.sets = Collections.emptyMap();
+        this.membership = Collections.emptyMap();
+        LogUtil.log(LogUtil.Level.INFO, "New item set tracker initialized!");
+    }
+
+    /**
+     * A method that returns the amount of distinct pieces of an item set a player has equipped (safe to call async)
+     *
+     * @param uuid the uuid of the player
+     * @param set the identifier of the item set
+     * @return the amount of distinct pieces of the item set the player has equipped
+     */
+    public int getPieces(@NotNull UUID uuid, @NotNull String set) {
+        State state = this.states.get(uuid);
+        return state != null ? state.pieces.getOrDefault(set, 0) : 0;
+    }
+
+    /**
+     * A method that returns true if a player has at least the provided amount of pieces of an item set equipped (safe to call async)
+     *
+     * @param uuid the uuid of the player
+     * @param set the identifier of the item set
+     * @param pieces the amount of pieces
+     * @return true if the player has at least the provided amount of pieces equipped
+     */
+    public boolean isActive(@NotNull UUID uuid, @NotNull String set, int pieces) {
+        return this.getPieces(uuid, set) >= pieces;
+    }
+
+    /**
+     * A method that returns the potion effects granted to a player by their active set bonuses
+     *
+     * @param uuid the uuid of the player
+     * @return the potion effects granted by active set bonuses, mapped to their highest amplifier
+     */
+    @NotNull
+    public Map<PotionEffectType, Integer> getPassiveEffects(@NotNull UUID uuid) {
+        State state = this.states.get(uuid);
+
+        if (state == null || state.pieces.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<PotionEffectType, Integer> effects = new HashMap<>();
+
+        for (Map.Entry<String, Integer> entry : state.pieces.entrySet()) {
+            ItemSet set = this.sets.get(entry.getKey());
+
+            if (set == null) {
+                continue;
+            }
+
+            for (SetBonus bonus : set.getBonuses()) {
+                if (bonus.getPieces() > entry.getValue()) {
+                    break; //bonuses are sorted by the amount of pieces they need
+                }
+
+                for (Map.Entry<PotionEffectType, Integer> effect : bonus.getPassiveEffects().entrySet()) {
+                    effects.merge(effect.getKey(), effect.getValue(), Math::max);
+                }
+            }
+        }
+
+        return effects;
+    }
+
+    /**
+     * A method used to apply the difference between two scans of a player's equipment (must be called on the main thread)
+     *
+     * @param player the player
+     * @param previous the custom items the player had equipped during the last scan (null if the player was never scanned)
+     * @param current the custom items the player has equipped now
+     */
+    public void update(@NotNull Player player, @Nullable CustomItem[] previous, @NotNull CustomItem[] current) {
+        State state = this.states.computeIfAbsent(player.getUniqueId(), key -> new State());
+        Map<String, Integer> before = new HashMap<>();
+
+        //only worn pieces count towards a set, holding a piece in either hand does not
+        for (int i = 0; i < ItemSetTracker.ARMOR_SLOTS; i++) {
+            String removed = previous != null ? ItemSetTracker.getIdentifier(previous[i]) : null;
+            String added = ItemSetTracker.getIdentifier(current[i]);
+
+            if (removed != null && removed.equals(added)) {
+                continue;
+            }
+
+            if (removed != null) {
+                this.remove(state, removed, before);
+            }
+
+            if (added != null) {
+                this.add(state, added, before);
+            }
+        }
+
+        for (Map.Entry<String, Integer> entry : before.entrySet()) {
+            ItemSet set = this.sets.get(entry.getKey());
+
+            if (set != null) {
+                this.cross(player, set, entry.getValue(), state.pieces.getOrDefault(set.getIdentifier(), 0));
+            }
+        }
+    }
+
+    /**
+     * A method used to rebuild the set membership from the cache after the configs have been parsed (must be called on the main thread)
+     */
+    public void reload() {
+        Map<String, ItemSet> sets = new HashMap<>();
+        Map<String, List<ItemSet>> membership = new HashMap<>();
+
+        for (ItemSet set : InnovativeItems.getInstance().getItemCache().getItemSets()) {
+            sets.put(set.getIdentifier(), set);
+
+            for (String member : set.getMembers()) {
+                membership.computeIfAbsent(member, key -> new ArrayList<>()).add(set);
+            }
+        }
+
+        this.sets = sets;
+        this.membership = membership;
+
+        //the equipped items of every player are unaffected by a reload, only the set counts derived from them have to be recomputed
+        for (Map.Entry<UUID, State> entry : this.states.entrySet()) {
+            State state = entry.getValue();
+            Map<String, Integer> before = new HashMap<>(state.pieces);
+            state.pieces.clear();
+
+            for (String item : state.items.keySet()) {
+                for (ItemSet set : membership.getOrDefault(item, Collections.emptyList())) {
+                    state.pieces.merge(set.getIdentifier(), 1, Integer::sum);
+                }
+            }
+
+            Player player = Bukkit.getPlayer(entry.getKey());
+
+            if (player == null) {
+                continue;
+            }
+
+            Set<String> changed = new HashSet<>(before.keySet());
+            changed.addAll(state.pieces.keySet());
+
+            for (String identifier : changed) {
+                ItemSet set = sets.get(identifier);
+
+                if (set != null) {
+                    this.cross(player, set, before.getOrDefault(identifier, 0), state.pieces.getOrDefault(identifier, 0));
+                }
+            }
+        }
+    }
+
+    /**
+     * A util method used to count a newly equipped item, and the sets it belongs to if no other slot holds it
+     */
+    private void add(@NotNull State state, @NotNull String item, @NotNull Map<String, Integer> before) {
+        if (state.items.merge(item, 1, Integer::sum) > 1) {
+            return;
+        }
+
+        for (ItemSet set : this.membership.getOrDefault(item, Collections.emptyList())) {
+            String identifier = set.getIdentifier();
+            before.putIfAbsent(identifier, state.pieces.getOrDefault(identifier, 0));
+            state.pieces.merge(identifier, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * A util method used to uncount an unequipped item, and the sets it belongs to if no other slot holds it
+     */
+    private void remove(@NotNull State state, @NotNull String item, @NotNull Map<String, Integer> before) {
+        Integer count = state.items.get(item);
+
+        if (count == null) {
+            return;
+        }
+
+        if (count > 1) {
+            state.items.put(item, count - 1);
+            return;
+        }
+
+        state.items.remove(item);
+
+        for (ItemSet set : this.membership.getOrDefault(item, Collections.emptyList())) {
+            String identifier = set.getIdentifier();
+            int pieces = state.pieces.getOrDefault(identifier, 0);
+            before.putIfAbsent(identifier, pieces);
+
+            if (pieces <= 1) {
+                state.pieces.remove(identifier);
+            } else {
+                state.pieces.put(identifier, pieces - 1);
+            }
+        }
+    }
+
+    /**
+     * A util method used to fire the abilities of every bonus whose threshold lies between the old and new amount of pieces
+     */
+    private void cross(@NotNull Player player, @NotNull ItemSet set, int before, int after) {
+        if (before == after) {
+            return;
+        }
+
+        boolean activated = after > before;
+
+        for (SetBonus bonus : set.getBonuses()) {
+            int pieces = bonus.getPieces();
+
+            if (activated ? pieces <= before || pieces > after : pieces <= after || pieces > before) {
+                continue;
+            }
+
+            LogUtil.log(LogUtil.Level.NOISE, "The " + pieces + " piece bonus of the " + set.getIdentifier() + " item set was " + (activated ? "activated" : "deactivated") + " for " + player.getName() + "!");
+
+            for (Ability ability : bonus.getAbilities()) {
+                if (activated ? ability.getTrigger() instanceof SetActivatedTrigger : ability.getTrigger() instanceof SetDeactivatedTrigger) {
+                    Bukkit.getScheduler().runTaskAsynchronously(InnovativeItems.getInstance(), () -> ability.execute(player));
+                }
+            }
+        }
+    }
+
+    /**
+     * A util method used to get the identifier of a possibly empty slot
+     */
+    @Nullable
+    private static String getIdentifier(@Nullable CustomItem item) {
+        return item != null ? item.getIdentifier() : null;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        this.states.remove(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * A class that represents the equipped items and set pieces of a single player
+     */
+    private static final class State {
+        private final Map<String, Integer> items = new HashMap<>(); //item identifier to the amount of slots holding it
+        private final Map<String, Integer> pieces = new ConcurrentHashMap<>(); //set identifier to the amount of distinct pieces, read async by conditions
+    }
+}
@@ -0,0 +1,51 @@
+package me.boboballoon.innovativeitems.items.set;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import me.boboballoon.innovativeitems.items.ability.Ability;
+import org.bukkit.potion.PotionEffectType;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A class that represents what an item set grants once enough of its pieces are equipped
+ */
+public final class SetBonus {
+    private final int pieces;
+    private final ImmutableList<Ability> abilities;
+    private final ImmutableMap<PotionEffectType, Integer> passiveEffects;
+
+    public SetBonus(int pieces, @NotNull ImmutableList<Ability> abilities, @NotNull ImmutableMap<PotionEffectType, Integer> passiveEffects) {
+        this.pieces = pieces;
+        this.abilities = abilities;
+        this.passiveEffects = passiveEffects;
+    }
+
+    /**
+     * A method used to get the amount of pieces that must be equipped for the bonus to be active
+     *
+     * @return the amount of pieces that must be equipped for the bonus to be active
+     */
+    public int getPieces() {
+        return this.pieces;
+    }
+
+    /**
+     * A method used to get the abilities fired when the bonus is activated or deactivated
+     *
+     * @return the abilities fired when the bonus is activated or deactivated
+     */
+    @NotNull
+    public ImmutableList<Ability> getAbilities() {
+        return this.abilities;
+    }
+
+    /**
+     * A method used to get the potion effects applied to a player while the bonus is active
+     *
+     * @return the potion effects applied while the bonus is active, mapped to their amplifier
+     */
+    @NotNull
+    public ImmutableMap<PotionEffectType, Integer> getPassiveEffects() {
+        return this.passiveEffects;
+    }
+}
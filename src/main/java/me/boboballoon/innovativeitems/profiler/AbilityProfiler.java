@@ -0,0 +1,215 @@
+package me.boboballoon.innovativeitems.profiler;
+
+import me.boboballoon.innovativeitems.functions.ActiveFunction;
+import me.boboballoon.innovativeitems.functions.condition.ActiveCondition;
+import me.boboballoon.innovativeitems.functions.context.RuntimeContext;
+import me.boboballoon.innovativeitems.items.ability.Ability;
+import me.boboballoon.innovativeitems.util.LogUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A class used to record how long abilities and their keywords and conditions take to execute (only one volatile read per call while disabled)
+ */
+public final class AbilityProfiler {
+    private final Map<String, ProfileEntry> abilities;
+    private final Map<String, Map<ActiveFunction<?>, ProfileEntry>> functions; //ability to function, functions are shared by every ability that uses the same line
+    private volatile boolean enabled;
+    private long started;
+    private long stopped;
+
+    public AbilityProfiler() {
+        this.abilities = new ConcurrentHashMap<>();
+        this.functions = new ConcurrentHashMap<>();
+        this.enabled = false;
+        this.started = 0;
+        this.stopped = 0;
+    }
+
+    /**
+     * A method that returns true while the profiler is recording
+     *
+     * @return true while the profiler is recording
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * A method used to wipe all recorded values and start recording
+     */
+    public synchronized void start() {
+        this.abilities.clear();
+        this.functions.clear();
+        this.started = System.currentTimeMillis();
+        this.stopped = 0;
+        this.enabled = true;
+        LogUtil.log(LogUtil.Level.INFO, "The ability profiler has started recording!");
+    }
+
+    /**
+     * A method used to stop recording (recorded values are kept until the next start)
+     */
+    public synchronized void stop() {
+        if (!this.enabled) {
+            return;
+        }
+
+        this.enabled = false;
+        this.stopped = System.currentTimeMillis();
+        LogUtil.log(LogUtil.Level.INFO, "The ability profiler has stopped recording!");
+    }
+
+    /**
+     * A method that returns the amount of milliseconds the profiler has been recording for
+     *
+     * @return the amount of milliseconds the profiler has been recording for (0 if it was never started)
+     */
+    public synchronized long getDuration() {
+        if (this.started == 0) {
+            return 0;
+        }
+
+        return (this.enabled ? System.currentTimeMillis() : this.stopped) - this.started;
+    }
+
+    /**
+     * A method used to record a single execution of an ability
+     *
+     * @param ability the ability that was executed
+     * @param wall the amount of nanoseconds the execution took
+     */
+    public void recordAbility(@NotNull Ability ability, long wall) {
+        this.getAbilityEntry(ability).record(wall);
+    }
+
+    /**
+     * A method used to record a single call of a keyword or condition
+     *
+     * @param function the keyword or condition that was called
+     * @param context the context the function was called with
+     * @param wall the amount of nanoseconds the call took
+     * @param timings the main thread timings of the call
+     */
+    public void recordFunction(@NotNull ActiveFunction<?> function, @NotNull RuntimeContext context, long wall, @NotNull FunctionTimings timings) {
+        Ability ability = context.getAbility();
+
+        ProfileEntry entry = this.functions.computeIfAbsent(ability.getIdentifier(), key -> new ConcurrentHashMap<>()).computeIfAbsent(function, key -> {
+            boolean condition = key instanceof ActiveCondition;
+            int index = (condition ? ability.getConditions() : ability.getKeywords()).indexOf(key) + 1;
+            return new ProfileEntry(condition ? ProfileEntry.Type.CONDITION : ProfileEntry.Type.KEYWORD, ability.getIdentifier() + " " + (condition ? "condition" : "keyword") + " #" + index + " " + key.getBase().getIdentifier());
+        });
+
+        entry.record(wall);
+        entry.recordMainThread(timings.getWait(), timings.getMain());
+        this.getAbilityEntry(ability).recordMainThread(timings.getWait(), timings.getMain());
+    }
+
+    /**
+     * A method that returns a copy of every recorded entry sorted by total wall time
+     *
+     * @param type the type of entries to return (null for every type)
+     * @return a copy of every recorded entry sorted by total wall time
+     */
+    @NotNull
+    public List<ProfileEntry.Snapshot> getSnapshots(@Nullable ProfileEntry.Type type) {
+        List<ProfileEntry.Snapshot> snapshots = new ArrayList<>();
+
+        for (ProfileEntry entry : this.abilities.values()) {
+            if (type == null || type == entry.getType()) {
+                snapshots.add(entry.snapshot());
+            }
+        }
+
+        for (Map<ActiveFunction<?>, ProfileEntry> entries : this.functions.values()) {
+            for (ProfileEntry entry : entries.values()) {
+                if (type == null || type == entry.getType()) {
+                    snapshots.add(entry.snapshot());
+                }
+            }
+        }
+
+        snapshots.sort(Comparator.comparingLong(ProfileEntry.Snapshot::getWall).reversed());
+        return snapshots;
+    }
+
+    /**
+     * A method used to write every recorded entry to a csv file (should be called async)
+     *
+     * @param folder the folder to create the file in
+     * @return the file that was written
+     * @throws IOException if the file could not be written
+     */
+    @NotNull
+    public File export(@NotNull File folder) throws IOException {
+        if (!folder.exists() && !folder.mkdirs()) {
+            throw new IOException("The " + folder.getPath() + " folder could not be created!");
+        }
+
+        File file = new File(folder, "profile-" + new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date()) + ".csv");
+
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8))) {
+            writer.println("type,name,count,total_ms,mean_us,p50_us,p95_us,p99_us,max_sampled_us,main_thread_wait_ms,main_thread_ms");
+
+            for (ProfileEntry.Snapshot snapshot : this.getSnapshots(null)) {
+                writer.println(snapshot.getType().name().toLowerCase() + ","
+                        + "\"" + snapshot.getLabel().replace("\"", "\"\"") + "\","
+                        + snapshot.getCount() + ","
+                        + AbilityProfiler.toMillis(snapshot.getWall()) + ","
+                        + AbilityProfiler.toMicros(snapshot.getCount() == 0 ? 0 : snapshot.getWall() / snapshot.getCount()) + ","
+                        + AbilityProfiler.toMicros(snapshot.getPercentile(50)) + ","
+                        + AbilityProfiler.toMicros(snapshot.getPercentile(95)) + ","
+                        + AbilityProfiler.toMicros(snapshot.getPercentile(99)) + ","
+                        + AbilityProfiler.toMicros(snapshot.getPercentile(100)) + ","
+                        + AbilityProfiler.toMillis(snapshot.getWait()) + ","
+                        + AbilityProfiler.toMillis(snapshot.getMain()));
+            }
+        }
+
+        return file;
+    }
+
+    /**
+     * A util method used to get or create the entry of an ability
+     */
+    @NotNull
+    private ProfileEntry getAbilityEntry(@NotNull Ability ability) {
+        return this.abilities.computeIfAbsent(ability.getIdentifier(), key -> new ProfileEntry(ProfileEntry.Type.ABILITY, key));
+    }
+
+    /**
+     * A util method used to convert nanoseconds to milliseconds with three decimal places
+     *
+     * @param nanos the amount of nanoseconds
+     * @return the amount of milliseconds
+     */
+    @NotNull
+    public static String toMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000D);
+    }
+
+    /**
+     * A util method used to convert nanoseconds to microseconds with one decimal place
+     *
+     * @param nanos the amount of nanoseconds
+     * @return the amount of microseconds
+     */
+    @NotNull
+    public static String toMicros(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000D);
+    }
+}
@@ -0,0 +1,45 @@
+package me.boboballoon.innovativeitems.profiler;
+
+/**
+ * A class used to carry the main thread timings of a single function call out of the main thread (only created while profiling)
+ */
+public final class FunctionTimings {
+    private volatile long wait;
+    private volatile long main;
+
+    /**
+     * A method that returns the amount of nanoseconds the function waited before the main thread picked it up
+     *
+     * @return the amount of nanoseconds the function waited before the main thread picked it up
+     */
+    public long getWait() {
+        return this.wait;
+    }
+
+    /**
+     * A method used to set the amount of nanoseconds the function waited before the main thread picked it up
+     *
+     * @param wait the amount of nanoseconds the function waited before the main thread picked it up
+     */
+    public void setWait(long wait) {
+        this.wait = wait;
+    }
+
+    /**
+     * A method that returns the amount of nanoseconds the function ran on the main thread
+     *
+     * @return the amount of nanoseconds the function ran on the main thread
+     */
+    public long getMain() {
+        return this.main;
+    }
+
+    /**
+     * A method used to set the amount of nanoseconds the function ran on the main thread
+     *
+     * @param main the amount of nanoseconds the function ran on the main thread
+     */
+    public void setMain(long main) {
+        this.main = main;
+    }
+}
@@ -0,0 +1,279 @@
+package me.boboballoon.innovativeitems.profiler;
+
+import me.boboballoon.innovativeitems.InnovativeItems;
+import org.bukkit.Bukkit;
+import org.bukkit.event.Event;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.EventExecutor;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.RegisteredListener;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A class used to measure how much time every event listener registered by the plugin costs, grouped into one second windows
+ */
+public final class ListenerTimings {
+    public static final int WINDOWS = 60; //the amount of one second windows that are kept
+
+    private final Map<String, Window> windows;
+    private BukkitTask task;
+
+    public ListenerTimings() {
+        this.windows = new ConcurrentHashMap<>();
+        this.task = null;
+    }
+
+    /**
+     * A method used to wrap an event executor so that every call is timed
+     *
+     * @param listener the readable name of the listener
+     * @param eventClass the class of the event the executor listens to
+     * @param executor the executor to wrap
+     * @return the timed executor
+     */
+    @NotNull
+    public EventExecutor wrap(@NotNull String listener, @NotNull Class<? extends Event> eventClass, @NotNull EventExecutor executor) {
+        Window window = this.windows.computeIfAbsent(listener + "#" + eventClass.getSimpleName(), key -> new Window(listener, eventClass.getSimpleName()));
+
+        return (instance, event) -> {
+            long start = System.nanoTime();
+
+            try {
+                executor.execute(instance, event);
+            } finally {
+                window.add(System.nanoTime() - start);
+            }
+        };
+    }
+
+    /**
+     * A method used to register every event handler of a listener with a timed executor (replaces PluginManager#registerEvents)
+     *
+     * @param listener the listener to register
+     * @param plugin the plugin registering the listener
+     */
+    public void register(@NotNull Listener listener, @NotNull Plugin plugin) {
+        String name = listener.getClass().getSimpleName();
+
+        for (Map.Entry<Class<? extends Event>, Set<RegisteredListener>> entry : plugin.getPluginLoader().createRegisteredListeners(listener, plugin).entrySet()) {
+            for (RegisteredListener registered : entry.getValue()) {
+                EventExecutor executor = this.wrap(name, entry.getKey(), (instance, event) -> registered.callEvent(event));
+                Bukkit.getPluginManager().registerEvent(entry.getKey(), listener, registered.getPriority(), executor, plugin, registered.isIgnoringCancelled());
+            }
+        }
+    }
+
+    /**
+     * A method used to start closing a window every second (must be called on the main thread)
+     */
+    public void start() {
+        if (this.task != null) {
+            return;
+        }
+
+        this.task = Bukkit.getScheduler().runTaskTimer(InnovativeItems.getInstance(), () -> {
+            for (Window window : this.windows.values()) {
+                window.rotate();
+            }
+        }, 20L, 20L);
+    }
+
+    /**
+     * A method that returns the timings of every listener over the provided amount of seconds sorted by cost
+     *
+     * @param seconds the amount of seconds to look back (at most 60)
+     * @return the timings of every listener sorted by cost
+     */
+    @NotNull
+    public List<Window.Snapshot> getSnapshots(int seconds) {
+        List<Window.Snapshot> snapshots = new ArrayList<>();
+
+        for (Window window : this.windows.values()) {
+            snapshots.add(window.snapshot(seconds));
+        }
+
+        snapshots.sort(Comparator.comparingLong(Window.Snapshot::getNanos).reversed());
+        return snapshots;
+    }
+
+    /**
+     * A method used to write the timings of every listener to a csv file (should be called async)
+     *
+     * @param folder the folder to create the file in
+     * @return the file that was written
+     * @throws IOException if the file could not be written
+     */
+    @NotNull
+    public File export(@NotNull File folder) throws IOException {
+        if (!folder.exists() && !folder.mkdirs()) {
+            throw new IOException("The " + folder.getPath() + " folder could not be created!");
+        }
+
+        File file = new File(folder, "listeners-" + new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date()) + ".csv");
+
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8))) {
+            writer.println("listener,event,calls_1s,us_per_tick_1s,calls_10s,us_per_tick_10s,calls_60s,us_per_tick_60s");
+
+            for (Window window : this.windows.values()) {
+                Window.Snapshot second = window.snapshot(1);
+                Window.Snapshot tenSeconds = window.snapshot(10);
+                Window.Snapshot minute = window.snapshot(WINDOWS);
+
+                writer.println(window.listener + "," + window.event + ","
+                        + second.getCalls() + "," + AbilityProfiler.toMicros(second.getNanosPerTick()) + ","
+                        + tenSeconds.getCalls() + "," + AbilityProfiler.toMicros(tenSeconds.getNanosPerTick()) + ","
+                        + minute.getCalls() + "," + AbilityProfiler.toMicros(minute.getNanosPerTick()));
+            }
+        }
+
+        return file;
+    }
+
+    /**
+     * A class that represents the rolling timings of a single listener and event class pair
+     */
+    public static final class Window {
+        private final String listener;
+        private final String event;
+        private final LongAdder currentNanos;
+        private final LongAdder currentCalls;
+        private final long[] nanos;
+        private final long[] calls;
+        private int index;
+        private int filled;
+
+        private Window(@NotNull String listener, @NotNull String event) {
+            this.listener = listener;
+            this.event = event;
+            this.currentNanos = new LongAdder();
+            this.currentCalls = new LongAdder();
+            this.nanos = new long[WINDOWS];
+            this.calls = new long[WINDOWS];
+            this.index = 0;
+            this.filled = 0;
+        }
+
+        /**
+         * A method used to add a single call to the open window (may be called from any thread)
+         *
+         * @param nanos the amount of nanoseconds the call took
+         */
+        private void add(long nanos) {
+            this.currentNanos.add(nanos);
+            this.currentCalls.increment();
+        }
+
+        /**
+         * A method used to close the open window and open a new one
+         */
+        private synchronized void rotate() {
+            this.index = (this.index + 1) % WINDOWS;
+            this.nanos[this.index] = this.currentNanos.sumThenReset();
+            this.calls[this.index] = this.currentCalls.sumThenReset();
+            this.filled = Math.min(this.filled + 1, WINDOWS);
+        }
+
+        /**
+         * A method used to sum up the most recent closed windows
+         *
+         * @param seconds the amount of windows to sum up
+         * @return the sum of the most recent closed windows
+         */
+        @NotNull
+        private synchronized Snapshot snapshot(int seconds) {
+            int windows = Math.max(1, Math.min(Math.min(seconds, WINDOWS), this.filled));
+            long nanos = 0;
+            long calls = 0;
+
+            for (int i = 0; i < windows && i < this.filled; i++) {
+                int slot = Math.floorMod(this.index - i, WINDOWS);
+                nanos += this.nanos[slot];
+                calls += this.calls[slot];
+            }
+
+            return new Snapshot(this.listener, this.event, calls, nanos, windows * 20L);
+        }
+
+        /**
+         * A class that represents the summed up timings of a window over a period of time
+         */
+        public static final class Snapshot {
+            private final String listener;
+            private final String event;
+            private final long calls;
+            private final long nanos;
+            private final long ticks;
+
+            private Snapshot(@NotNull String listener, @NotNull String event, long calls, long nanos, long ticks) {
+                this.listener = listener;
+                this.event = event;
+                this.calls = calls;
+                this.nanos = nanos;
+                this.ticks = ticks;
+            }
+
+            /**
+             * A method that returns the readable name of the listener
+             *
+             * @return the readable name of the listener
+             */
+            @NotNull
+            public String getListener() {
+                return this.listener;
+            }
+
+            /**
+             * A method that returns the name of the event class
+             *
+             * @return the name of the event class
+             */
+            @NotNull
+            public String getEvent() {
+                return this.event;
+            }
+
+            /**
+             * A method that returns the amount of calls in the period
+             *
+             * @return the amount of calls in the period
+             */
+            public long getCalls() {
+                return this.calls;
+            }
+
+            /**
+             * A method that returns the total amount of nanoseconds spent in the period
+             *
+             * @return the total amount of nanoseconds spent in the period
+             */
+            public long getNanos() {
+                return this.nanos;
+            }
+
+            /**
+             * A method that returns the average amount of nanoseconds spent per tick in the period
+             *
+             * @return the average amount of nanoseconds spent per tick in the period
+             */
+            public long getNanosPerTick() {
+                return this.nanos / this.ticks;
+            }
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package me.boboballoon.innovativeitems.profiler;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A class that represents the recorded timings of a single ability, keyword or condition
+ */
+public final class ProfileEntry {
+    private static final int RESERVOIR_SIZE = 1024;
+
+    private final Type type;
+    private final String label;
+    private final long[] reservoir;
+    private long count;
+    private long wall;
+    private long wait;
+    private long main;
+
+    public ProfileEntry(@NotNull Type type, @NotNull String label) {
+        this.type = type;
+        this.label = label;
+        this.reservoir = new long[RESERVOIR_SIZE];
+        this.count = 0;
+        this.wall = 0;
+        this.wait = 0;
+        this.main = 0;
+    }
+
+    /**
+     * A method that returns what this entry profiles
+     *
+     * @return what this entry profiles
+     */
+    @NotNull
+    public Type getType() {
+        return this.type;
+    }
+
+    /**
+     * A method that returns the readable name of what this entry profiles
+     *
+     * @return the readable name of what this entry profiles
+     */
+    @NotNull
+    public String getLabel() {
+        return this.label;
+    }
+
+    /**
+     * A method used to record a single invocation
+     *
+     * @param wall the amount of nanoseconds the invocation took from start to finish
+     */
+    public synchronized void record(long wall) {
+        //reservoir sampling keeps a uniform sample of every invocation for the percentiles
+        if (this.count < RESERVOIR_SIZE) {
+            this.reservoir[(int) this.count] = wall;
+        } else {
+            long slot = ThreadLocalRandom.current().nextLong(this.count + 1);
+
+            if (slot < RESERVOIR_SIZE) {
+                this.reservoir[(int) slot] = wall;
+            }
+        }
+
+        this.count++;
+        this.wall += wall;
+    }
+
+    /**
+     * A method used to record the main thread timings of a function call
+     *
+     * @param wait the amount of nanoseconds spent waiting for the main thread
+     * @param main the amount of nanoseconds spent running on the main thread
+     */
+    public synchronized void recordMainThread(long wait, long main) {
+        this.wait += wait;
+        this.main += main;
+    }
+
+    /**
+     * A method used to take a consistent copy of the recorded values
+     *
+     * @return a consistent copy of the recorded values
+     */
+    @NotNull
+    public synchronized Snapshot snapshot() {
+        long[] samples = Arrays.copyOf(this.reservoir, (int) Math.min(this.count, RESERVOIR_SIZE));
+        Arrays.sort(samples);
+        return new Snapshot(this.type, this.label, this.count, this.wall, this.wait, this.main, samples);
+    }
+
+    /**
+     * An enum that represents what a profile entry profiles
+     */
+    public enum Type {
+        ABILITY,
+        KEYWORD,
+        CONDITION
+    }
+
+    /**
+     * A class that represents an immutable copy of the recorded values of a profile entry (all times are in nanoseconds)
+     */
+    public static final class Snapshot {
+        private final Type type;
+        private final String label;
+        private final long count;
+        private final long wall;
+        private final long wait;
+        private final long main;
+        private final long[] samples;
+
+        private Snapshot(@NotNull Type type, @NotNull String label, long count, long wall, long wait, long main, long[] samples) {
+            this.type = type;
+            this.label = label;
+            this.count = count;
+            this.wall = wall;
+            this.wait = wait;
+            this.main = main;
+            this.samples = samples;
+        }
+
+        /**
+         * A method that returns what the profile entry profiles
+         *
+         * @return what the profile entry profiles
+         */
+        @NotNull
+        public Type getType() {
+            return this.type;
+        }
+
+        /**
+         * A method that returns the readable name of what the profile entry profiles
+         *
+         * @return the readable name of what the profile entry profiles
+         */
+        @NotNull
+        public String getLabel() {
+            return this.label;
+        }
+
+        /**
+         * A method that returns the amount of recorded invocations
+         *
+         * @return the amount of recorded invocations
+         */
+        public long getCount() {
+            return this.count;
+        }
+
+        /**
+         * A method that returns the total wall time of every invocation
+         *
+         * @return the total wall time of every invocation
+         */
+        public long getWall() {
+            return this.wall;
+        }
+
+        /**
+         * A method that returns the total time spent waiting for the main thread
+         *
+         * @return the total time spent waiting for the main thread
+         */
+        public long getWait() {
+            return this.wait;
+        }
+
+        /**
+         * A method that returns the total time spent running on the main thread
+         *
+         * @return the total time spent running on the main thread
+         */
+        public long getMain() {
+            return this.main;
+        }
+
+        /**
+         * A method that returns the wall time below which the provided percentage of sampled invocations fall
+         *
+         * @param percentile the percentile (0 to 100)
+         * @return the wall time of the percentile
+         */
+        public long getPercentile(double percentile) {
+            if (this.samples.length == 0) {
+                return 0;
+            }
+
+            int index = (int) Math.ceil(percentile / 100 * this.samples.length) - 1;
+            return this.samples[Math.max(0, Math.min(index, this.samples.length - 1))];
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package me.boboballoon.innovativeitems.util;
+
+import org.bukkit.inventory.CookingRecipe;
+import org.bukkit.inventory.Recipe;
+import org.bukkit.inventory.ShapedRecipe;
+import org.bukkit.inventory.ShapelessRecipe;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A util class used to organize crafting recipe based functions
+ */
+public final class RecipeUtil {
+    /**
+     * Constructor to prevent people from using this util class in an object oriented way
+     */
+    private RecipeUtil() {}
+
+    /**
+     * A method used to check whether two recipes would behave the same once registered, recipes do not implement equals so their contents are compared instead
+     *
+     * @param first the first recipe
+     * @param second the second recipe
+     * @return true if both recipes are of the same type and have the same result, ingredients and settings
+     */
+    public static boolean isSimilar(@NotNull Recipe first, @NotNull Recipe second) {
+        if (first.getClass() != second.getClass() || !first.getResult().equals(second.getResult())) {
+            return false;
+        }
+
+        if (first instanceof ShapedRecipe) {
+            ShapedRecipe a = (ShapedRecipe) first;
+            ShapedRecipe b = (ShapedRecipe) second;
+
+            return Arrays.equals(a.getShape(), b.getShape()) && a.getChoiceMap().equals(b.getChoiceMap()) && a.getGroup().equals(b.getGroup()) && a.getCategory() == b.getCategory();
+        }
+
+        if (first instanceof ShapelessRecipe) {
+            ShapelessRecipe a = (ShapelessRecipe) first;
+            ShapelessRecipe b = (ShapelessRecipe) second;
+
+            return a.getChoiceList().equals(b.getChoiceList()) && a.getGroup().equals(b.getGroup()) && a.getCategory() == b.getCategory();
+        }
+
+        if (first instanceof CookingRecipe) {
+            CookingRecipe<?> a = (CookingRecipe<?>) first;
+            CookingRecipe<?> b = (CookingRecipe<?>) second;
+
+            return Objects.equals(a.getInputChoice(), b.getInputChoice()) && a.getExperience() == b.getExperience() && a.getCookingTime() == b.getCookingTime()
+                    && a.getGroup().equals(b.getGroup()) && a.getCategory() == b.getCategory();
+        }
+
+        return false; //unknown recipe types are always registered again to be safe
+    }
+}
@@ -32,7 +32,7 @@ public final class ResponseUtil {
      */
     public static void enable() {
         if (!enabled) {
-            Bukkit.getPluginManager().registerEvents(new ChatListener(), InnovativeItems.getInstance());
+            InnovativeItems.getInstance().getListenerTimings().register(new ChatListener(), InnovativeItems.getInstance());
             ResponseUtil.enabled = true;
         }
     }
@@ -0,0 +1,114 @@
+package me.boboballoon.innovativeitems.config;
+
+import me.boboballoon.innovativeitems.util.RegexUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A class used to compare the line parser against the regex pipeline it replaced on a file of 10k keyword and condition lines, run without a server
+ *
+ * Usage: java -cp &lt;test classes&gt;:&lt;classes&gt;:&lt;guava&gt; me.boboballoon.innovativeitems.config.FunctionLineParserBenchmark
+ */
+public final class FunctionLineParserBenchmark {
+    private static final int LINES = 10_000;
+    private static final int WARMUP_PASSES = 50;
+    private static final int MEASURED_PASSES = 50;
+
+    //the lines of the default abilities, limited to syntax both pipelines accept so both do the same work
+    private static final String[] SAMPLE = {
+            "!istime(NIGHT)",
+            "isusingitemset(?player, fairy-set, 4)",
+            "ability(fairy-fullset-buff)",
+            "issneaking(?player)",
+            "velocity(?player, 0, .75, 0)",
+            "particle(?player, CRIT_MAGIC, 50, 1.5, 1.5, 1.5)",
+            "particle(?player, VILLAGER_HAPPY, 10, 1.5, 1.5, 1.5)",
+            "heal(?player, 2)",
+            "feed(?player, 2)",
+            "actionbar(?player, &dThe power of the fairy queen surrounds you)",
+            "actionbar(?player, &7The power of the fairy queen fades away)",
+            "message(?player, thanks for waiting\\, have fun :))"
+    };
+
+    /**
+     * Constructor to prevent people from using this util class in an object oriented way
+     */
+    private FunctionLineParserBenchmark() {}
+
+    public static void main(String[] args) throws FunctionLineParser.SyntaxException {
+        List<String> lines = new ArrayList<>(LINES);
+
+        for (int i = 0; i < LINES; i++) {
+            lines.add(SAMPLE[i % SAMPLE.length]);
+        }
+
+        long sink = 0;
+
+        for (int i = 0; i < WARMUP_PASSES; i++) {
+            sink += FunctionLineParserBenchmark.runRegex(lines) + FunctionLineParserBenchmark.runParser(lines);
+        }
+
+        long regex = 0;
+        long parser = 0;
+
+        for (int i = 0; i < MEASURED_PASSES; i++) {
+            long start = System.nanoTime();
+            sink += FunctionLineParserBenchmark.runRegex(lines);
+            long middle = System.nanoTime();
+            sink += FunctionLineParserBenchmark.runParser(lines);
+            long end = System.nanoTime();
+
+            regex += middle - start;
+            parser += end - middle;
+        }
+
+        double regexMillis = regex / 1_000_000.0 / MEASURED_PASSES;
+        double parserMillis = parser / 1_000_000.0 / MEASURED_PASSES;
+
+        System.out.printf("regex pipeline: %.2fms per %d lines%n", regexMillis, LINES);
+        System.out.printf("line parser:    %.2fms per %d lines%n", parserMillis, LINES);
+        System.out.printf("speedup:        %.1fx (checksum %d)%n", regexMillis / parserMillis, sink);
+    }
+
+    /**
+     * A util method used to run the regex pipeline the line parser replaced over every line, returning the amount of arguments found
+     */
+    private static long runRegex(List<String> lines) {
+        long arguments = 0;
+
+        for (String line : lines) {
+            boolean inverted = line.matches("!\\w+\\(.*\\)");
+
+            if (!inverted && !line.matches("\\w+\\(.*\\)")) {
+                throw new IllegalStateException("The regex pipeline rejected " + line);
+            }
+
+            String[] split = RegexUtil.splitLiteralWithEscape(line, "(");
+
+            if (split.length != 2) {
+                throw new IllegalStateException("The regex pipeline rejected " + line);
+            }
+
+            String[] rawArguments = RegexUtil.splitLiteralWithEscape(split[1].substring(0, split[1].length() - 1), ",", 0);
+            rawArguments = Arrays.stream(rawArguments).map(String::trim).toArray(String[]::new);
+            arguments += rawArguments.length;
+        }
+
+        return arguments;
+    }
+
+    /**
+     * A util method used to run the line parser over every line, returning the amount of arguments found
+     */
+    private static long runParser(List<String> lines) throws FunctionLineParser.SyntaxException {
+        long arguments = 0;
+
+        for (String line : lines) {
+            arguments += FunctionLineParser.parse(line).getArguments().size();
+        }
+
+        return arguments;
+    }
+}
@@ -0,0 +1,108 @@
+package me.boboballoon.innovativeitems.items.ability.trigger.builtin.movement;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerMoveEvent;
+
+import java.lang.reflect.Proxy;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * A class used to measure what the movement trigger gate costs per player move event, run with the spigot api on the classpath
+ */
+public final class MovementTriggerBenchmark {
+    private static final int EVENTS = 1_000_000;
+    private static final int WARMUP = 20;
+    private static final int PASSES = 20;
+
+    /**
+     * Constructor to prevent people from using this util class in an object oriented way
+     */
+    private MovementTriggerBenchmark() {}
+
+    public static void main(String[] args) {
+        UUID moverId = UUID.randomUUID();
+        Player mover = MovementTriggerBenchmark.player(moverId);
+        Player idle = MovementTriggerBenchmark.player(UUID.randomUUID());
+
+        //a server sized set of players wearing movement abilities, the idle player is not one of them
+        Set<UUID> movers = ConcurrentHashMap.newKeySet();
+        movers.add(moverId);
+        for (int i = 0; i < 200; i++) {
+            movers.add(UUID.randomUUID());
+        }
+
+        Location from = new Location(null, 10.5, 64, 10.5);
+        //a head rotation keeps the coordinates, a step inside the block keeps the block, a step over the edge enters a new one
+        PlayerMoveEvent[] events = {
+                new PlayerMoveEvent(idle, from, new Location(null, 10.5, 64, 10.5, 90, 0)),
+                new PlayerMoveEvent(mover, from, new Location(null, 10.5, 64, 10.5, 90, 0)),
+                new PlayerMoveEvent(mover, from, new Location(null, 10.7, 64, 10.5)),
+                new PlayerMoveEvent(mover, from, new Location(null, 11.1, 64, 10.5))
+        };
+        String[] names = {"no movement items", "head rotation", "step in block", "new block"};
+
+        for (int i = 0; i < events.length; i++) {
+            double block = MovementTriggerBenchmark.measure(movers, events[i], MovementTrigger::isNewBlock);
+            double chunk = MovementTriggerBenchmark.measure(movers, events[i], MovementTrigger::isNewChunk);
+            System.out.printf("%-18s move-block %6.2fns  move-chunk %6.2fns per event%n", names[i] + ":", block, chunk);
+        }
+    }
+
+    /**
+     * A method used to time the gate against one event, in nanoseconds per event
+     */
+    private static double measure(Set<UUID> movers, PlayerMoveEvent event, Predicate<PlayerMoveEvent> boundary) {
+        int passed = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            passed += MovementTriggerBenchmark.pass(movers, event, boundary);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < PASSES; i++) {
+            passed += MovementTriggerBenchmark.pass(movers, event, boundary);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        //printed so the jit cannot drop the loop
+        if (passed == -1) {
+            System.out.println(passed);
+        }
+
+        return (double) elapsed / ((long) PASSES * EVENTS);
+    }
+
+    /**
+     * A method used to run the gate once per event of a pass
+     */
+    private static int pass(Set<UUID> movers, PlayerMoveEvent event, Predicate<PlayerMoveEvent> boundary) {
+        int passed = 0;
+        for (int i = 0; i < EVENTS; i++) {
+            if (MovementTrigger.passesGate(movers, event, boundary)) {
+                passed++;
+            }
+        }
+        return passed;
+    }
+
+    /**
+     * A method used to build a stand-in player that only knows its uuid
+     */
+    private static Player player(UUID uuid) {
+        return (Player) Proxy.newProxyInstance(Player.class.getClassLoader(), new Class<?>[]{Player.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getUniqueId":
+                    return uuid;
+                case "hashCode":
+                    return uuid.hashCode();
+                case "equals":
+                    return proxy == args[0];
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+}